@@ -0,0 +1,40 @@
+package com.parselo.domain;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Receives the parsed objects in batches, as they are parsed, and decides whether parsing should go on.
+ * <p>
+ * The same batch list is reused for every batch, so the sink must copy the objects it keeps hold of beyond the call.
+ *
+ * @param <T> the type of the parsed objects
+ */
+@FunctionalInterface
+public interface BatchSink<T> {
+
+  /**
+   * Create a sink handing every batch over to a consumer, parsing the whole area.
+   *
+   * @param consumer the consumer of the batches
+   * @param <T> the type of the parsed objects
+   * @return the sink never stopping the parsing
+   */
+  static <T> BatchSink<T> of(Consumer<List<T>> consumer) {
+    JodaBeanUtils.notNull(consumer, "consumer");
+    return batch -> {
+      consumer.accept(batch);
+      return true;
+    };
+  }
+
+  /**
+   * Receive a batch of parsed objects, in row order.
+   *
+   * @param batch the unmodifiable batch, holding at most the batch size objects
+   * @return true to keep parsing, false to stop parsing without reading the rest of the area
+   */
+  boolean accept(List<T> batch);
+}
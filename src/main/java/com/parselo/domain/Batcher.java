@@ -0,0 +1,67 @@
+package com.parselo.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Collects parsed objects into a single reused batch, handing it over to a {@link BatchSink} every time it is full.
+ *
+ * @param <T> the type of the parsed objects
+ */
+final class Batcher<T> {
+
+  private final int batchSize;
+  private final BatchSink<T> sink;
+  private final List<T> batch;
+  private final List<T> unmodifiableBatch;
+  private int count;
+
+  Batcher(int batchSize, BatchSink<T> sink) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize expected to be a positive number but was " + batchSize);
+    }
+    JodaBeanUtils.notNull(sink, "sink");
+    this.batchSize = batchSize;
+    this.sink = sink;
+    this.batch = new ArrayList<>(batchSize);
+    this.unmodifiableBatch = Collections.unmodifiableList(batch);
+  }
+
+  /**
+   * Add a parsed object to the batch, handing the batch over to the sink when it is full.
+   *
+   * @param parsed the parsed object
+   * @return true to keep parsing, false if the sink asked to stop
+   */
+  boolean add(T parsed) {
+    batch.add(parsed);
+    count++;
+    return batch.size() < batchSize || flush();
+  }
+
+  /**
+   * Hand the objects left in the batch over to the sink.
+   *
+   * @return true to keep parsing, false if the sink asked to stop
+   */
+  boolean flush() {
+    if (batch.isEmpty()) {
+      return true;
+    }
+    boolean proceed = sink.accept(unmodifiableBatch);
+    batch.clear();
+    return proceed;
+  }
+
+  /**
+   * Provide the number of objects parsed so far.
+   *
+   * @return the number of parsed objects
+   */
+  int count() {
+    return count;
+  }
+}
@@ -0,0 +1,44 @@
+package com.parselo.domain;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * A {@link CellConverter} to boolean values, converting cells without boxing them into {@link Boolean}s.
+ */
+public interface BooleanCellConverter extends CellConverter<Boolean> {
+
+  /**
+   * Convert a cell to a primitive boolean.
+   *
+   * @param cell the cell to convert, never null
+   * @return the boolean value of the cell
+   */
+  boolean convertBoolean(HSSFCell cell);
+
+  /**
+   * Provide the value of missing cells.
+   *
+   * @return the boolean value of missing cells
+   */
+  boolean getBooleanDefault();
+
+  /**
+   * Convert a cell to a primitive boolean, using the default for missing cells.
+   *
+   * @param cell the cell to convert, possibly null
+   * @return the boolean value of the cell or the default
+   */
+  default boolean convertBooleanWithDefault(HSSFCell cell) {
+    return cell == null ? getBooleanDefault() : convertBoolean(cell);
+  }
+
+  @Override
+  default Boolean convert(HSSFCell cell) {
+    return convertBoolean(cell);
+  }
+
+  @Override
+  default Boolean getDefault() {
+    return getBooleanDefault();
+  }
+}
@@ -16,5 +16,20 @@ public interface CellConverter<T> {
       return converted == null ? getDefault() : converted;
     }
   }
+
+  /**
+   * Provide the converter to use for a single parse, which converts the cells of that parse on one thread at a time.
+   * <p>
+   * Converters are shared by every parse and every thread, so a converter holding state which is not thread safe, such
+   * as compiled formats, should return a new instance here, holding state of its own that needs no locking. Parselo
+   * asks for such an instance at the start of every parse, and for every chunk of rows of a parallel parse. Streams and
+   * lazy matrices may be read from any thread, so they keep using the shared converter. Stateless converters return
+   * themselves, which is the default.
+   *
+   * @return the converter confined to a single parse
+   */
+  default CellConverter<T> forParse() {
+    return this;
+  }
 }
 
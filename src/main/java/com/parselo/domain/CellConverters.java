@@ -1,95 +1,213 @@
 package com.parselo.domain;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.Optional;
 
 import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.CellType;
 import org.joda.beans.JodaBeanUtils;
 
+import com.google.common.collect.ImmutableMap;
+
 public class CellConverters {
 
 
-  public static final CellConverter<String> TO_STRING = new CellConverter<String>() {
-    private static final String EMPTY_STRING = "";
-    private final DataFormatter DATA_FORMATTER = new DataFormatter();
+  /**
+   * Converter of cells to the text displayed by Excel, giving the same strings as
+   * {@link org.apache.poi.ss.usermodel.DataFormatter#formatCellValue}, with the formats of the cell styles cached.
+   */
+  public static final CellConverter<String> TO_STRING = new FormattingStringConverter();
 
-    @Override
-    public String convert(HSSFCell cell) {
-      return DATA_FORMATTER.formatCellValue(cell);
-    }
+  public static final IntCellConverter TO_INTEGER = toInteger(Integer.MIN_VALUE);
 
-    @Override
-    public String getDefault() {
-      return EMPTY_STRING;
-    }
-  };
+  public static final LongCellConverter TO_LONG = toLong(Long.MIN_VALUE);
 
-  public static final CellConverter<Integer> TO_INTEGER = new CellConverter<Integer>() {
-    @Override
-    public Integer convert(HSSFCell cell) {
-      return ((int) cell.getNumericCellValue());
-    }
+  public static final DoubleCellConverter TO_DOUBLE = toDouble(Double.NaN);
 
-    @Override
-    public Integer getDefault() {
-      return Integer.MIN_VALUE;
-    }
-  };
+  public static final BooleanCellConverter TO_BOOLEAN = toBoolean(false);
+
+  /**
+   * Converter of date cells to the date of their day, computed from the serial number of the cell in the date system
+   * of its workbook, whatever the time zone.
+   */
+  public static final CellConverter<LocalDate> TO_LOCAL_DATE = new CellConverter<LocalDate>() {
+    private final SerialDates serialDates = new SerialDates();
 
-  public static final CellConverter<Double> TO_DOUBLE = new CellConverter<Double>() {
     @Override
-    public Double convert(HSSFCell cell) {
-      return cell.getNumericCellValue();
+    public LocalDate convert(HSSFCell cell) {
+      if (cell.getCellTypeEnum() == CellType.BLANK) {
+        return null;
+      }
+      return serialDates.toLocalDate(cell.getNumericCellValue(), SerialDates.isDate1904(cell));
     }
 
     @Override
-    public Double getDefault() {
-      return Double.NaN;
+    public LocalDate getDefault() {
+      return LocalDate.MIN;
     }
   };
 
-  public static final CellConverter<LocalDate> TO_LOCAL_DATE = new CellConverter<LocalDate>() {
+  /**
+   * Converter of date cells to their date and time, to the millisecond, computed from the serial number of the cell in
+   * the date system of its workbook, whatever the time zone.
+   */
+  public static final CellConverter<LocalDateTime> TO_LOCAL_DATE_TIME = new CellConverter<LocalDateTime>() {
+    private final SerialDates serialDates = new SerialDates();
+
     @Override
-    public LocalDate convert(HSSFCell cell) {
-      return cell.getDateCellValue().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    public LocalDateTime convert(HSSFCell cell) {
+      if (cell.getCellTypeEnum() == CellType.BLANK) {
+        return null;
+      }
+      return serialDates.toLocalDateTime(cell.getNumericCellValue(), SerialDates.isDate1904(cell));
     }
 
     @Override
-    public LocalDate getDefault() {
-      return LocalDate.MIN;
+    public LocalDateTime getDefault() {
+      return LocalDateTime.MIN;
     }
   };
 
-  public static final Map<Class<?>, CellConverter<?>> conversionTargetToConverter = new HashMap<>();
+  /**
+   * The default converters by the type they convert to, which the {@link ConverterRegistry#defaults() default
+   * registry} holds.
+   */
+  static final ImmutableMap<Class<?>, CellConverter<?>> DEFAULT_CONVERTERS = defaultConverters();
+
+  /**
+   * The default converters by the type they convert to, as an unmodifiable map.
+   *
+   * @deprecated use {@link ConverterRegistry#defaults()} to read the default converters, and register other converters
+   * in a {@link ConverterRegistry} attached to the Parselo. This map can no longer be changed.
+   */
+  @Deprecated
+  public static final Map<Class<?>, CellConverter<?>> conversionTargetToConverter = DEFAULT_CONVERTERS;
+
+  /**
+   * Create a converter of numeric cells to ints, truncating any decimals.
+   *
+   * @param defaultValue the value of missing cells
+   * @return the int converter
+   */
+  public static IntCellConverter toInteger(int defaultValue) {
+    return new IntCellConverter() {
+      @Override
+      public int convertInt(HSSFCell cell) {
+        return (int) cell.getNumericCellValue();
+      }
+
+      @Override
+      public int getIntDefault() {
+        return defaultValue;
+      }
+    };
+  }
+
+  /**
+   * Create a converter of numeric cells to longs, truncating any decimals.
+   *
+   * @param defaultValue the value of missing cells
+   * @return the long converter
+   */
+  public static LongCellConverter toLong(long defaultValue) {
+    return new LongCellConverter() {
+      @Override
+      public long convertLong(HSSFCell cell) {
+        return (long) cell.getNumericCellValue();
+      }
+
+      @Override
+      public long getLongDefault() {
+        return defaultValue;
+      }
+    };
+  }
 
-  static {
-    addToMap(conversionTargetToConverter, String.class, TO_STRING);
-    addToMap(conversionTargetToConverter, Integer.class, TO_INTEGER);
-    addToMap(conversionTargetToConverter, Double.class, TO_DOUBLE);
-    addToMap(conversionTargetToConverter, LocalDate.class, TO_LOCAL_DATE);
+  /**
+   * Create a converter of numeric cells to doubles.
+   *
+   * @param defaultValue the value of missing cells
+   * @return the double converter
+   */
+  public static DoubleCellConverter toDouble(double defaultValue) {
+    return new DoubleCellConverter() {
+      @Override
+      public double convertDouble(HSSFCell cell) {
+        return cell.getNumericCellValue();
+      }
+
+      @Override
+      public double getDoubleDefault() {
+        return defaultValue;
+      }
+    };
   }
 
-  static Optional<CellConverter<?>> findConverter(Class<?> conversionTarget) {
-    JodaBeanUtils.notNull(conversionTarget, "fieldToPopulate");
-    return Optional.ofNullable(conversionTargetToConverter.get(conversionTarget));
+  /**
+   * Create a converter of boolean cells to booleans.
+   *
+   * @param defaultValue the value of missing cells
+   * @return the boolean converter
+   */
+  public static BooleanCellConverter toBoolean(boolean defaultValue) {
+    return new BooleanCellConverter() {
+      @Override
+      public boolean convertBoolean(HSSFCell cell) {
+        return cell.getBooleanCellValue();
+      }
+
+      @Override
+      public boolean getBooleanDefault() {
+        return defaultValue;
+      }
+    };
   }
 
-  static CellConverter<?> getConverter(Class<?> conversionTarget) {
-    JodaBeanUtils.notNull(conversionTarget, "fieldToPopulate");
+  /**
+   * Create a converter of text cells to the constant of an enum with the same name, ignoring surrounding spaces.
+   * Blank cells are converted to null.
+   *
+   * @param type the enum type
+   * @param <E> the enum type
+   * @return the enum converter
+   */
+  public static <E extends Enum<E>> CellConverter<E> toEnum(Class<E> type) {
+    JodaBeanUtils.notNull(type, "type");
+    return new CellConverter<E>() {
+      @Override
+      public E convert(HSSFCell cell) {
+        String name = cell.getStringCellValue().trim();
+        return name.isEmpty() ? null : Enum.valueOf(type, name);
+      }
+
+      @Override
+      public E getDefault() {
+        return null;
+      }
+    };
+  }
 
-    return findConverter(conversionTarget)
-        .orElseThrow(() -> new IllegalArgumentException(String.format(
-            "Parselo does not support conversion to type '%s'",
-            conversionTarget.getName())));
+  //--------------------------------------------------------------------
+  private static ImmutableMap<Class<?>, CellConverter<?>> defaultConverters() {
+    ImmutableMap.Builder<Class<?>, CellConverter<?>> converters = ImmutableMap.builder();
+    addToMap(converters, String.class, TO_STRING);
+    addToMap(converters, Integer.class, TO_INTEGER);
+    addToMap(converters, Long.class, TO_LONG);
+    addToMap(converters, Double.class, TO_DOUBLE);
+    addToMap(converters, Boolean.class, TO_BOOLEAN);
+    addToMap(converters, int.class, TO_INTEGER);
+    addToMap(converters, long.class, TO_LONG);
+    addToMap(converters, double.class, TO_DOUBLE);
+    addToMap(converters, boolean.class, TO_BOOLEAN);
+    addToMap(converters, LocalDate.class, TO_LOCAL_DATE);
+    addToMap(converters, LocalDateTime.class, TO_LOCAL_DATE_TIME);
+    return converters.build();
   }
 
   // Type safe method for adding the right converters for the right types
   private static <T> void addToMap(
-      Map<Class<?>, CellConverter<?>> typeToConverter,
+      ImmutableMap.Builder<Class<?>, CellConverter<?>> typeToConverter,
       Class<T> type,
       CellConverter<T> cellConverter) {
     typeToConverter.put(type, cellConverter);
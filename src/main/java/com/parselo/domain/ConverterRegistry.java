@@ -0,0 +1,133 @@
+package com.parselo.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.joda.beans.JodaBeanUtils;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The converters of the field types of Parselo annotated classes, one converter per type.
+ * <p>
+ * A registry starts from the {@link #defaults() default converters} of strings, numbers, booleans and dates, and
+ * takes converters of any other type, such as {@code BigDecimal}, enums or value types of the application, or
+ * replaces a default converter. It is attached to a Parselo with {@link Parselo#withConverters(ConverterRegistry)}.
+ * <p>
+ * The converter of every annotated field is looked up once, when the mapping of the class is prepared for a parse,
+ * and never for a cell. Registries are immutable, so they are shared between threads without any locking.
+ */
+public final class ConverterRegistry {
+
+  private static final ConverterRegistry DEFAULTS = new ConverterRegistry(CellConverters.DEFAULT_CONVERTERS);
+
+  private final ImmutableMap<Class<?>, CellConverter<?>> converters;
+
+  private ConverterRegistry(ImmutableMap<Class<?>, CellConverter<?>> converters) {
+    this.converters = converters;
+  }
+
+  /**
+   * Provide the registry of the converters Parselo uses by default.
+   *
+   * @return the default registry
+   */
+  public static ConverterRegistry defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Create a builder of a registry holding the default converters.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return DEFAULTS.toBuilder();
+  }
+
+  /**
+   * Create a builder of a registry holding the converters of this registry.
+   *
+   * @return the builder
+   */
+  public Builder toBuilder() {
+    return new Builder(converters);
+  }
+
+  //---------------------------------------------------------------
+  /**
+   * Find the converter of a type.
+   *
+   * @param type the type to convert cells to, such as the type of an annotated field
+   * @return the converter, empty if no converter is registered for the type
+   */
+  public Optional<CellConverter<?>> find(Class<?> type) {
+    JodaBeanUtils.notNull(type, "type");
+    return Optional.ofNullable(converters.get(type));
+  }
+
+  /**
+   * Provide the converters of the registry.
+   *
+   * @return the converters by the type they convert to
+   */
+  public Map<Class<?>, CellConverter<?>> asMap() {
+    return converters;
+  }
+
+  @Override
+  public String toString() {
+    return "ConverterRegistry{types=" + converters.keySet() + "}";
+  }
+
+  /**
+   * Builds an immutable registry.
+   */
+  public static final class Builder {
+
+    private final Map<Class<?>, CellConverter<?>> converters;
+
+    private Builder(Map<Class<?>, CellConverter<?>> converters) {
+      this.converters = new LinkedHashMap<>(converters);
+    }
+
+    /**
+     * Register the converter of a type, replacing the converter already registered for the type. The converters of
+     * primitive types should be primitive converters, such as an {@link IntCellConverter} for {@code int}, so that
+     * primitive fields are converted without boxing.
+     *
+     * @param type the type to convert cells to
+     * @param converter the converter
+     * @param <T> the type to convert cells to
+     * @return this builder
+     */
+    public <T> Builder register(Class<T> type, CellConverter<T> converter) {
+      JodaBeanUtils.notNull(type, "type");
+      JodaBeanUtils.notNull(converter, "converter");
+      converters.put(type, converter);
+      return this;
+    }
+
+    /**
+     * Register the converter of an enum type, converting the text of a cell to the constant of the same name.
+     *
+     * @param type the enum type
+     * @param <E> the enum type
+     * @return this builder
+     * @see CellConverters#toEnum(Class)
+     */
+    public <E extends Enum<E>> Builder registerEnum(Class<E> type) {
+      return register(type, CellConverters.toEnum(type));
+    }
+
+    /**
+     * Build the registry, which later registrations on this builder leave unchanged.
+     *
+     * @return the registry
+     */
+    public ConverterRegistry build() {
+      return new ConverterRegistry(ImmutableMap.copyOf(converters));
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.parselo.domain;
+
+/**
+ * Matrix storage holding every value row after row in a single array, so any value is reached in constant time.
+ */
+final class DenseMatrixCells implements MatrixCells {
+
+  private final Object[] values;
+  private final int columns;
+
+  DenseMatrixCells(Object[] values, int columns) {
+    this.values = values;
+    this.columns = columns;
+  }
+
+  @Override
+  public Object get(int row, int column) {
+    return values[row * columns + column];
+  }
+
+  @Override
+  public int storedCount() {
+    return values.length;
+  }
+}
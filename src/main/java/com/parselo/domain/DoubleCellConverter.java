@@ -0,0 +1,44 @@
+package com.parselo.domain;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * A {@link CellConverter} to double values, converting cells without boxing them into {@link Double}s.
+ */
+public interface DoubleCellConverter extends CellConverter<Double> {
+
+  /**
+   * Convert a cell to a primitive double.
+   *
+   * @param cell the cell to convert, never null
+   * @return the double value of the cell
+   */
+  double convertDouble(HSSFCell cell);
+
+  /**
+   * Provide the value of missing cells.
+   *
+   * @return the double value of missing cells
+   */
+  double getDoubleDefault();
+
+  /**
+   * Convert a cell to a primitive double, using the default for missing cells.
+   *
+   * @param cell the cell to convert, possibly null
+   * @return the double value of the cell or the default
+   */
+  default double convertDoubleWithDefault(HSSFCell cell) {
+    return cell == null ? getDoubleDefault() : convertDouble(cell);
+  }
+
+  @Override
+  default Double convert(HSSFCell cell) {
+    return convertDouble(cell);
+  }
+
+  @Override
+  default Double getDefault() {
+    return getDoubleDefault();
+  }
+}
@@ -0,0 +1,252 @@
+package com.parselo.domain;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the result of parsing a matrix area of numbers as primitive doubles.
+ * <p>
+ * The values are held row after row in a single {@code double[]}, without boxing. Rows and columns are exposed as
+ * read-only {@link Vector} views over that array, and the values can be copied out in bulk.
+ */
+public final class DoubleMatrix {
+
+  private final double[] values;
+  private final int rowCount;
+  private final int columnCount;
+
+  /**
+   * Wrap the values of a matrix given row after row, without copying them.
+   *
+   * @param values the values, row after row, which must not be modified afterwards
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @return the matrix over the values
+   */
+  static DoubleMatrix wrap(double[] values, int rows, int columns) {
+    return new DoubleMatrix(values, rows, columns);
+  }
+
+  /**
+   * Create a matrix from a copy of the values given row after row.
+   *
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @param values the values, row after row
+   * @return the matrix
+   * @throws IllegalArgumentException if the number of values does not match the rows and columns
+   */
+  public static DoubleMatrix of(int rows, int columns, double... values) {
+    return new DoubleMatrix(values.clone(), rows, columns);
+  }
+
+  private DoubleMatrix(double[] values, int rowCount, int columnCount) {
+    if (values.length != rowCount * columnCount) {
+      throw new IllegalArgumentException(String.format(
+          "Expected %d values for a matrix of %d rows and %d columns but found %d",
+          rowCount * columnCount,
+          rowCount,
+          columnCount,
+          values.length));
+    }
+    this.values = values;
+    this.rowCount = rowCount;
+    this.columnCount = columnCount;
+  }
+
+  //---------------------------------------------------------------
+  public double getElement(int row, int column) {
+    validateRow(row);
+    validateColumn(column);
+    return values[row * columnCount + column];
+  }
+
+  public Vector getRow(int row) {
+    validateRow(row);
+    return new Vector(row * columnCount, 1, columnCount);
+  }
+
+  public Vector getColumn(int column) {
+    validateColumn(column);
+    return new Vector(column, columnCount, rowCount);
+  }
+
+  public int rowCount() {
+    return rowCount;
+  }
+
+  public int columnCount() {
+    return columnCount;
+  }
+
+  /**
+   * Copy the values row after row into a new array.
+   *
+   * @return the values, row after row
+   */
+  public double[] toArray() {
+    return values.clone();
+  }
+
+  /**
+   * Copy the values row after row into the array given, starting at its first index.
+   *
+   * @param target the array to copy the values into
+   * @throws IndexOutOfBoundsException if the array is too small to hold the values
+   */
+  public void copyInto(double[] target) {
+    copyInto(target, 0);
+  }
+
+  /**
+   * Copy the values row after row into the array given, starting at the offset given.
+   *
+   * @param target the array to copy the values into
+   * @param offset the index of the target to copy the first value to
+   * @throws IndexOutOfBoundsException if the array is too small to hold the values from the offset
+   */
+  public void copyInto(double[] target, int offset) {
+    System.arraycopy(values, 0, target, offset, values.length);
+  }
+
+  /**
+   * Provide the values row after row.
+   *
+   * @return the stream of values
+   */
+  public DoubleStream stream() {
+    return Arrays.stream(values);
+  }
+
+  //---------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof DoubleMatrix) {
+      DoubleMatrix other = (DoubleMatrix) obj;
+      return rowCount == other.rowCount
+          && columnCount == other.columnCount
+          && Arrays.equals(values, other.values);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return (rowCount * 31 + columnCount) * 31 + Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(64);
+    buf.append("DoubleMatrix{rows=[");
+    for (int row = 0; row < rowCount; row++) {
+      buf.append(row == 0 ? "" : ", ").append(getRow(row));
+    }
+    return buf.append("]}").toString();
+  }
+
+  //---------------------------------------------------------------
+  private void validateRow(int rowIdx) {
+    if (rowIdx >= rowCount || rowIdx < 0) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Row index %d is outside of bounds [%d ; %d]]",
+          rowIdx,
+          0,
+          rowCount));
+    }
+  }
+
+  private void validateColumn(int columnIdx) {
+    if (columnIdx < 0 || columnIdx >= columnCount) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Column index %d is outside of bounds [%d ; %d]]",
+          columnIdx,
+          0,
+          columnCount));
+    }
+  }
+
+  /**
+   * A read-only view over a row or a column of the matrix.
+   */
+  public final class Vector {
+
+    private final int offset;
+    private final int stride;
+    private final int size;
+
+    private Vector(int offset, int stride, int size) {
+      this.offset = offset;
+      this.stride = stride;
+      this.size = size;
+    }
+
+    public double get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException(String.format(
+            "Index %d is outside of bounds [%d ; %d]]",
+            index,
+            0,
+            size));
+      }
+      return values[offset + index * stride];
+    }
+
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Copy the values of the view into a new array.
+     *
+     * @return the values
+     */
+    public double[] toArray() {
+      double[] target = new double[size];
+      copyInto(target, 0);
+      return target;
+    }
+
+    /**
+     * Copy the values of the view into the array given, starting at the offset given.
+     *
+     * @param target the array to copy the values into
+     * @param targetOffset the index of the target to copy the first value to
+     * @throws IndexOutOfBoundsException if the array is too small to hold the values from the offset
+     */
+    public void copyInto(double[] target, int targetOffset) {
+      if (stride == 1) {
+        System.arraycopy(values, offset, target, targetOffset, size);
+      } else {
+        if (targetOffset < 0 || targetOffset + size > target.length) {
+          throw new IndexOutOfBoundsException(String.format(
+              "Cannot copy %d values into an array of length %d from index %d",
+              size,
+              target.length,
+              targetOffset));
+        }
+        for (int index = 0; index < size; index++) {
+          target[targetOffset + index] = values[offset + index * stride];
+        }
+      }
+    }
+
+    /**
+     * Provide the values of the view.
+     *
+     * @return the stream of values
+     */
+    public DoubleStream stream() {
+      return IntStream.range(0, size).mapToDouble(index -> values[offset + index * stride]);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(toArray());
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.parselo.domain;
+
+import java.lang.ref.WeakReference;
+import java.text.Format;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFCellStyle;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.ExcelStyleDateFormatter;
+import org.apache.poi.util.LocaleUtil;
+
+/**
+ * Converts cells to the text displayed by Excel, giving the same strings as {@link DataFormatter#formatCellValue}.
+ * <p>
+ * String, boolean and blank cells are read directly. For numeric cells the format of the cell style is resolved once
+ * per style index: whether it is a date format, and the compiled {@link Format}, which is built by the
+ * {@link DataFormatter} from the first value formatted with its format string, as the formatter does itself. Formats
+ * having several sections, such as positive;negative;zero, are value dependent and left to the formatter, as well as
+ * formula and error cells.
+ * <p>
+ * Compiled formats are not thread safe, so the shared converter holds a cache for every thread, while the converter
+ * of a single parse, given by {@link #forParse()}, holds a cache of its own. Style indexes are only meaningful within
+ * a workbook, so the cache of the styles is dropped whenever a cell of another workbook is converted, and everything
+ * is dropped when the POI user locale changes.
+ */
+final class FormattingStringConverter implements CellConverter<String> {
+
+  private static final String EMPTY_STRING = "";
+
+  /**
+   * The formats of every thread, null for the converter of a single parse.
+   */
+  private final ThreadLocal<Formats> threadFormats;
+  /**
+   * The formats of the converter of a single parse, null for the shared converter.
+   */
+  private final Formats parseFormats;
+
+  FormattingStringConverter() {
+    this.threadFormats = ThreadLocal.withInitial(Formats::new);
+    this.parseFormats = null;
+  }
+
+  private FormattingStringConverter(Formats parseFormats) {
+    this.threadFormats = null;
+    this.parseFormats = parseFormats;
+  }
+
+  @Override
+  public String convert(HSSFCell cell) {
+    if (cell == null) {
+      return EMPTY_STRING;
+    }
+    switch (cell.getCellTypeEnum()) {
+      case STRING:
+        return cell.getStringCellValue();
+      case BOOLEAN:
+        return cell.getBooleanCellValue() ? "TRUE" : "FALSE";
+      case BLANK:
+        return EMPTY_STRING;
+      case NUMERIC:
+        return formats().formatNumeric(cell);
+      default:
+        return formats().formatter.formatCellValue(cell);
+    }
+  }
+
+  @Override
+  public String getDefault() {
+    return EMPTY_STRING;
+  }
+
+  @Override
+  public CellConverter<String> forParse() {
+    return new FormattingStringConverter(new Formats());
+  }
+
+  //---------------------------------------------------------------
+  private Formats formats() {
+    return parseFormats != null ? parseFormats : threadFormats.get();
+  }
+
+  /**
+   * The formats of a thread.
+   */
+  private static final class Formats {
+
+    private final DataFormatter formatter = new DataFormatter();
+    // compiled formats by format string, the first one built for a format string is kept like the formatter does
+    private final Map<String, Format> compiled = new HashMap<>();
+    private WeakReference<HSSFWorkbook> workbook = new WeakReference<>(null);
+    private Locale locale = LocaleUtil.getUserLocale();
+    private StyleFormat[] styles = new StyleFormat[0];
+
+    String formatNumeric(HSSFCell cell) {
+      StyleFormat style = styleFormat(cell);
+      if (style.delegated) {
+        return formatter.formatCellValue(cell);
+      }
+      double value = cell.getNumericCellValue();
+      if (style.date && DateUtil.isValidExcelDate(value)) {
+        if (style.format == null) {
+          return formatter.formatCellValue(cell);
+        }
+        if (style.format instanceof ExcelStyleDateFormatter) {
+          ((ExcelStyleDateFormatter) style.format).setDateToBeFormatted(value);
+        }
+        return style.format.format(cell.getDateCellValue());
+      }
+      if (style.format == null) {
+        return String.valueOf(value);
+      }
+      String formatted = style.format.format(value);
+      // to match Excel's E-notation
+      return formatted.indexOf('E') < 0 ? formatted : formatted.replaceFirst("E(\\d)", "E+$1");
+    }
+
+    private StyleFormat styleFormat(HSSFCell cell) {
+      Locale userLocale = LocaleUtil.getUserLocale();
+      if (!userLocale.equals(locale)) {
+        locale = userLocale;
+        compiled.clear();
+        styles = new StyleFormat[0];
+      }
+      HSSFWorkbook cellWorkbook = cell.getSheet().getWorkbook();
+      if (workbook.get() != cellWorkbook) {
+        workbook = new WeakReference<>(cellWorkbook);
+        styles = new StyleFormat[0];
+      }
+      HSSFCellStyle cellStyle = cell.getCellStyle();
+      int index = cellStyle.getIndex();
+      if (index >= styles.length) {
+        styles = Arrays.copyOf(styles, Math.max(index + 1, styles.length * 2));
+      }
+      StyleFormat style = styles[index];
+      if (style == null) {
+        style = resolve(cell, cellStyle);
+        styles[index] = style;
+      }
+      return style;
+    }
+
+    private StyleFormat resolve(HSSFCell cell, HSSFCellStyle cellStyle) {
+      int formatIndex = cellStyle.getDataFormat();
+      String formatString = cellStyle.getDataFormatString();
+      boolean date = DateUtil.isADateFormat(formatIndex, formatString);
+      if (formatString == null || formatString.trim().isEmpty()) {
+        return new StyleFormat(date, null, false);
+      }
+      if (formatString.indexOf(';') >= 0) {
+        return new StyleFormat(date, null, true);
+      }
+      Format format = compiled.get(formatString);
+      if (format == null) {
+        format = formatter.createFormat(cell);
+        compiled.put(formatString, format);
+      }
+      return new StyleFormat(date, format, false);
+    }
+  }
+
+  /**
+   * The format of a cell style.
+   */
+  private static final class StyleFormat {
+
+    private final boolean date;
+    private final Format format;
+    private final boolean delegated;
+
+    private StyleFormat(boolean date, Format format, boolean delegated) {
+      this.date = date;
+      this.format = format;
+      this.delegated = delegated;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.parselo.domain;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A spliterator over a range of indexes, building the element of an index only when it is pulled.
+ * <p>
+ * The range is known up front, so the spliterator is {@link #SIZED} and splits in halves, which allows parallel
+ * streams to share the work evenly. The element function must be safe to call from several threads.
+ *
+ * @param <T> the type of the elements
+ */
+final class IndexSpliterator<T> implements Spliterator<T> {
+
+  private final IntFunction<T> elements;
+  private int origin;
+  private final int fence;
+
+  /**
+   * Create a spliterator over the indexes from origin (inclusive) to fence (exclusive).
+   *
+   * @param elements the function building the element of an index
+   * @param origin the first index
+   * @param fence the index after the last index
+   */
+  IndexSpliterator(IntFunction<T> elements, int origin, int fence) {
+    this.elements = elements;
+    this.origin = origin;
+    this.fence = fence;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (origin < fence) {
+      action.accept(elements.apply(origin++));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    int index = origin;
+    origin = fence;
+    for (; index < fence; index++) {
+      action.accept(elements.apply(index));
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int middle = (origin + fence) >>> 1;
+    if (middle <= origin) {
+      return null;
+    }
+    IndexSpliterator<T> prefix = new IndexSpliterator<>(elements, origin, middle);
+    origin = middle;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - origin;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+  }
+}
@@ -0,0 +1,44 @@
+package com.parselo.domain;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * A {@link CellConverter} to int values, converting cells without boxing them into {@link Integer}s.
+ */
+public interface IntCellConverter extends CellConverter<Integer> {
+
+  /**
+   * Convert a cell to a primitive int.
+   *
+   * @param cell the cell to convert, never null
+   * @return the int value of the cell
+   */
+  int convertInt(HSSFCell cell);
+
+  /**
+   * Provide the value of missing cells.
+   *
+   * @return the int value of missing cells
+   */
+  int getIntDefault();
+
+  /**
+   * Convert a cell to a primitive int, using the default for missing cells.
+   *
+   * @param cell the cell to convert, possibly null
+   * @return the int value of the cell or the default
+   */
+  default int convertIntWithDefault(HSSFCell cell) {
+    return cell == null ? getIntDefault() : convertInt(cell);
+  }
+
+  @Override
+  default Integer convert(HSSFCell cell) {
+    return convertInt(cell);
+  }
+
+  @Override
+  default Integer getDefault() {
+    return getIntDefault();
+  }
+}
@@ -0,0 +1,251 @@
+package com.parselo.domain;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the result of parsing a matrix area of integers as primitive ints.
+ * <p>
+ * The values are held row after row in a single {@code int[]}, without boxing. Rows and columns are exposed as
+ * read-only {@link Vector} views over that array, and the values can be copied out in bulk.
+ */
+public final class IntMatrix {
+
+  private final int[] values;
+  private final int rowCount;
+  private final int columnCount;
+
+  /**
+   * Wrap the values of a matrix given row after row, without copying them.
+   *
+   * @param values the values, row after row, which must not be modified afterwards
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @return the matrix over the values
+   */
+  static IntMatrix wrap(int[] values, int rows, int columns) {
+    return new IntMatrix(values, rows, columns);
+  }
+
+  /**
+   * Create a matrix from a copy of the values given row after row.
+   *
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @param values the values, row after row
+   * @return the matrix
+   * @throws IllegalArgumentException if the number of values does not match the rows and columns
+   */
+  public static IntMatrix of(int rows, int columns, int... values) {
+    return new IntMatrix(values.clone(), rows, columns);
+  }
+
+  private IntMatrix(int[] values, int rowCount, int columnCount) {
+    if (values.length != rowCount * columnCount) {
+      throw new IllegalArgumentException(String.format(
+          "Expected %d values for a matrix of %d rows and %d columns but found %d",
+          rowCount * columnCount,
+          rowCount,
+          columnCount,
+          values.length));
+    }
+    this.values = values;
+    this.rowCount = rowCount;
+    this.columnCount = columnCount;
+  }
+
+  //---------------------------------------------------------------
+  public int getElement(int row, int column) {
+    validateRow(row);
+    validateColumn(column);
+    return values[row * columnCount + column];
+  }
+
+  public Vector getRow(int row) {
+    validateRow(row);
+    return new Vector(row * columnCount, 1, columnCount);
+  }
+
+  public Vector getColumn(int column) {
+    validateColumn(column);
+    return new Vector(column, columnCount, rowCount);
+  }
+
+  public int rowCount() {
+    return rowCount;
+  }
+
+  public int columnCount() {
+    return columnCount;
+  }
+
+  /**
+   * Copy the values row after row into a new array.
+   *
+   * @return the values, row after row
+   */
+  public int[] toArray() {
+    return values.clone();
+  }
+
+  /**
+   * Copy the values row after row into the array given, starting at its first index.
+   *
+   * @param target the array to copy the values into
+   * @throws IndexOutOfBoundsException if the array is too small to hold the values
+   */
+  public void copyInto(int[] target) {
+    copyInto(target, 0);
+  }
+
+  /**
+   * Copy the values row after row into the array given, starting at the offset given.
+   *
+   * @param target the array to copy the values into
+   * @param offset the index of the target to copy the first value to
+   * @throws IndexOutOfBoundsException if the array is too small to hold the values from the offset
+   */
+  public void copyInto(int[] target, int offset) {
+    System.arraycopy(values, 0, target, offset, values.length);
+  }
+
+  /**
+   * Provide the values row after row.
+   *
+   * @return the stream of values
+   */
+  public IntStream stream() {
+    return Arrays.stream(values);
+  }
+
+  //---------------------------------------------------------------
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof IntMatrix) {
+      IntMatrix other = (IntMatrix) obj;
+      return rowCount == other.rowCount
+          && columnCount == other.columnCount
+          && Arrays.equals(values, other.values);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return (rowCount * 31 + columnCount) * 31 + Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder buf = new StringBuilder(64);
+    buf.append("IntMatrix{rows=[");
+    for (int row = 0; row < rowCount; row++) {
+      buf.append(row == 0 ? "" : ", ").append(getRow(row));
+    }
+    return buf.append("]}").toString();
+  }
+
+  //---------------------------------------------------------------
+  private void validateRow(int rowIdx) {
+    if (rowIdx >= rowCount || rowIdx < 0) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Row index %d is outside of bounds [%d ; %d]]",
+          rowIdx,
+          0,
+          rowCount));
+    }
+  }
+
+  private void validateColumn(int columnIdx) {
+    if (columnIdx < 0 || columnIdx >= columnCount) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Column index %d is outside of bounds [%d ; %d]]",
+          columnIdx,
+          0,
+          columnCount));
+    }
+  }
+
+  /**
+   * A read-only view over a row or a column of the matrix.
+   */
+  public final class Vector {
+
+    private final int offset;
+    private final int stride;
+    private final int size;
+
+    private Vector(int offset, int stride, int size) {
+      this.offset = offset;
+      this.stride = stride;
+      this.size = size;
+    }
+
+    public int get(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException(String.format(
+            "Index %d is outside of bounds [%d ; %d]]",
+            index,
+            0,
+            size));
+      }
+      return values[offset + index * stride];
+    }
+
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Copy the values of the view into a new array.
+     *
+     * @return the values
+     */
+    public int[] toArray() {
+      int[] target = new int[size];
+      copyInto(target, 0);
+      return target;
+    }
+
+    /**
+     * Copy the values of the view into the array given, starting at the offset given.
+     *
+     * @param target the array to copy the values into
+     * @param targetOffset the index of the target to copy the first value to
+     * @throws IndexOutOfBoundsException if the array is too small to hold the values from the offset
+     */
+    public void copyInto(int[] target, int targetOffset) {
+      if (stride == 1) {
+        System.arraycopy(values, offset, target, targetOffset, size);
+      } else {
+        if (targetOffset < 0 || targetOffset + size > target.length) {
+          throw new IndexOutOfBoundsException(String.format(
+              "Cannot copy %d values into an array of length %d from index %d",
+              size,
+              target.length,
+              targetOffset));
+        }
+        for (int index = 0; index < size; index++) {
+          target[targetOffset + index] = values[offset + index * stride];
+        }
+      }
+    }
+
+    /**
+     * Provide the values of the view.
+     *
+     * @return the stream of values
+     */
+    public IntStream stream() {
+      return IntStream.range(0, size).map(index -> values[offset + index * stride]);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(toArray());
+    }
+  }
+}
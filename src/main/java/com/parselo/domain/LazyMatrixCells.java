@@ -0,0 +1,95 @@
+package com.parselo.domain;
+
+import java.util.function.IntFunction;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+
+/**
+ * Matrix storage converting each cell from the sheet the first time it is read, and memoizing the converted value in
+ * a slot of its own.
+ * <p>
+ * A cell read concurrently for the first time may be converted more than once, each thread then holding a value
+ * equal to the others, so the converter needs to be safe to share between threads.
+ */
+final class LazyMatrixCells implements MatrixCells {
+
+  // Marks the converted values which are null, as a null slot marks a cell not converted yet
+  private static final Object NULL = new Object();
+
+  private final IntFunction<HSSFRow> rows;
+  private final int columnStart;
+  private final int columns;
+  private final CellConverter<?> cellConverter;
+  private final Object[] slots;
+
+  /**
+   * Create the lazy storage of a matrix.
+   *
+   * @param rows the provider of the sheet row of each zero-based row offset, null if the row is missing
+   * @param rowCount the number of rows
+   * @param columnStart the zero-based index of the first column in the sheet
+   * @param columns the number of columns
+   * @param cellConverter the converter of the cells
+   */
+  LazyMatrixCells(
+      IntFunction<HSSFRow> rows,
+      int rowCount,
+      int columnStart,
+      int columns,
+      CellConverter<?> cellConverter) {
+
+    this.rows = rows;
+    this.columnStart = columnStart;
+    this.columns = columns;
+    this.cellConverter = cellConverter;
+    this.slots = new Object[rowCount * columns];
+  }
+
+  @Override
+  public Object get(int row, int column) {
+    Object value = slots[row * columns + column];
+    if (value == null) {
+      value = convert(rows.apply(row), row, column);
+    }
+    return value == NULL ? null : value;
+  }
+
+  @Override
+  public int storedCount() {
+    int converted = 0;
+    for (Object slot : slots) {
+      if (slot != null) {
+        converted++;
+      }
+    }
+    return converted;
+  }
+
+  // Rows are looked up once for all their cells
+  @Override
+  public void loadAll() {
+    for (int row = 0; row < slots.length / Math.max(columns, 1); row++) {
+      HSSFRow sheetRow = null;
+      boolean rowFound = false;
+      for (int column = 0; column < columns; column++) {
+        if (slots[row * columns + column] == null) {
+          if (!rowFound) {
+            sheetRow = rows.apply(row);
+            rowFound = true;
+          }
+          convert(sheetRow, row, column);
+        }
+      }
+    }
+  }
+
+  //--------------------------------------------------------------------
+  private Object convert(HSSFRow sheetRow, int row, int column) {
+    HSSFCell cell = sheetRow == null ? null : sheetRow.getCell(columnStart + column);
+    Object value = cellConverter.convertWithDefault(cell);
+    Object slot = value == null ? NULL : value;
+    slots[row * columns + column] = slot;
+    return slot;
+  }
+}
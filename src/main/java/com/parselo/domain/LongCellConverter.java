@@ -0,0 +1,44 @@
+package com.parselo.domain;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * A {@link CellConverter} to long values, converting cells without boxing them into {@link Long}s.
+ */
+public interface LongCellConverter extends CellConverter<Long> {
+
+  /**
+   * Convert a cell to a primitive long.
+   *
+   * @param cell the cell to convert, never null
+   * @return the long value of the cell
+   */
+  long convertLong(HSSFCell cell);
+
+  /**
+   * Provide the value of missing cells.
+   *
+   * @return the long value of missing cells
+   */
+  long getLongDefault();
+
+  /**
+   * Convert a cell to a primitive long, using the default for missing cells.
+   *
+   * @param cell the cell to convert, possibly null
+   * @return the long value of the cell or the default
+   */
+  default long convertLongWithDefault(HSSFCell cell) {
+    return cell == null ? getLongDefault() : convertLong(cell);
+  }
+
+  @Override
+  default Long convert(HSSFCell cell) {
+    return convertLong(cell);
+  }
+
+  @Override
+  default Long getDefault() {
+    return getLongDefault();
+  }
+}
@@ -0,0 +1,40 @@
+package com.parselo.domain;
+
+/**
+ * The storage of the values of a {@link ParseloMatrix}, addressed by zero-based row and column. The indexes are
+ * validated by the matrix before reaching the storage.
+ */
+interface MatrixCells {
+
+  /**
+   * Provide the value at a row and a column.
+   *
+   * @param row the zero-based row index
+   * @param column the zero-based column index
+   * @return the value
+   */
+  Object get(int row, int column);
+
+  /**
+   * Provide the number of values actually held by the storage.
+   *
+   * @return the number of values held
+   */
+  int storedCount();
+
+  /**
+   * Check whether the storage only holds the cells present in the sheet, sharing a single default value for the others.
+   *
+   * @return true if the storage is sparse
+   */
+  default boolean isSparse() {
+    return false;
+  }
+
+  /**
+   * Make every value available up front, before the values of the whole matrix are read in bulk. Storages holding
+   * all their values already have nothing to do.
+   */
+  default void loadAll() {
+  }
+}
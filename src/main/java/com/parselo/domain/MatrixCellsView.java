@@ -0,0 +1,77 @@
+package com.parselo.domain;
+
+/**
+ * Matrix storage reading a region of another storage, possibly transposed, without copying any value.
+ * <p>
+ * Views of views are flattened onto the storage holding the values, so reading a value through any chain of views
+ * costs a single indirection.
+ */
+final class MatrixCellsView implements MatrixCells {
+
+  private final MatrixCells base;
+  private final int rowOffset;
+  private final int columnOffset;
+  private final boolean transposed;
+
+  private MatrixCellsView(MatrixCells base, int rowOffset, int columnOffset, boolean transposed) {
+    this.base = base;
+    this.rowOffset = rowOffset;
+    this.columnOffset = columnOffset;
+    this.transposed = transposed;
+  }
+
+  /**
+   * Create the transposed view of a storage.
+   *
+   * @param cells the storage to view
+   * @return the transposed view
+   */
+  static MatrixCells transpose(MatrixCells cells) {
+    if (cells instanceof MatrixCellsView) {
+      MatrixCellsView view = (MatrixCellsView) cells;
+      return new MatrixCellsView(view.base, view.rowOffset, view.columnOffset, !view.transposed);
+    }
+    return new MatrixCellsView(cells, 0, 0, true);
+  }
+
+  /**
+   * Create the view of a region of a storage.
+   *
+   * @param cells the storage to view
+   * @param firstRow the zero-based index of the first row of the region in the storage
+   * @param firstColumn the zero-based index of the first column of the region in the storage
+   * @return the view of the region
+   */
+  static MatrixCells region(MatrixCells cells, int firstRow, int firstColumn) {
+    if (cells instanceof MatrixCellsView) {
+      MatrixCellsView view = (MatrixCellsView) cells;
+      // the rows of a transposed view are the columns of its base
+      return view.transposed
+          ? new MatrixCellsView(view.base, view.rowOffset + firstColumn, view.columnOffset + firstRow, true)
+          : new MatrixCellsView(view.base, view.rowOffset + firstRow, view.columnOffset + firstColumn, false);
+    }
+    return new MatrixCellsView(cells, firstRow, firstColumn, false);
+  }
+
+  @Override
+  public Object get(int row, int column) {
+    return transposed
+        ? base.get(rowOffset + column, columnOffset + row)
+        : base.get(rowOffset + row, columnOffset + column);
+  }
+
+  @Override
+  public int storedCount() {
+    return base.storedCount();
+  }
+
+  @Override
+  public boolean isSparse() {
+    return base.isSparse();
+  }
+
+  @Override
+  public void loadAll() {
+    base.loadAll();
+  }
+}
@@ -0,0 +1,151 @@
+package com.parselo.domain;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Binds objects through method handles unreflected once from the constructor and the fields of the class.
+ * <p>
+ * The handles are adapted to the erased {@code (Object)Object} and {@code (Object,Object)void} types so they can be
+ * invoked exactly, without the argument checks and boxing of the reflective calls. A public constructor of a public
+ * class is turned into a {@link Supplier} by the {@link LambdaMetafactory}, which the JIT inlines like a plain
+ * {@code new}.
+ *
+ * @param <T> the type of the bound objects
+ */
+final class MethodHandleObjectBinder<T> implements ObjectBinder<T> {
+
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Supplier<Object> factory;
+  private final MethodHandle[] setters;
+  /**
+   * The setters of the primitive fields adapted to {@code (Object,primitive)void}, null for the other fields.
+   */
+  private final MethodHandle[] primitiveSetters;
+
+  MethodHandleObjectBinder(Constructor<T> constructor, Field[] fields) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    constructor.setAccessible(true);
+    try {
+      this.factory = factory(lookup, constructor);
+      this.setters = new MethodHandle[fields.length];
+      this.primitiveSetters = new MethodHandle[fields.length];
+      for (int field = 0; field < fields.length; field++) {
+        fields[field].setAccessible(true);
+        MethodHandle setter = lookup.unreflectSetter(fields[field]);
+        setters[field] = setter.asType(SETTER_TYPE);
+        Class<?> type = fields[field].getType();
+        if (type.isPrimitive()) {
+          primitiveSetters[field] = setter.asType(MethodType.methodType(void.class, Object.class, type));
+        }
+      }
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T newInstance() {
+    return (T) factory.get();
+  }
+
+  @Override
+  public void set(T target, int field, Object value) {
+    try {
+      setters[field].invokeExact((Object) target, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setInt(T target, int field, int value) {
+    try {
+      primitiveSetters[field].invokeExact((Object) target, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setLong(T target, int field, long value) {
+    try {
+      primitiveSetters[field].invokeExact((Object) target, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setDouble(T target, int field, double value) {
+    try {
+      primitiveSetters[field].invokeExact((Object) target, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setBoolean(T target, int field, boolean value) {
+    try {
+      primitiveSetters[field].invokeExact((Object) target, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  //--------------------------------------------------------------------
+  @SuppressWarnings("unchecked")
+  private static Supplier<Object> factory(MethodHandles.Lookup lookup, Constructor<?> constructor)
+      throws IllegalAccessException {
+
+    MethodHandle handle = lookup.unreflectConstructor(constructor);
+    Class<?> clazz = constructor.getDeclaringClass();
+    if (Modifier.isPublic(clazz.getModifiers()) && Modifier.isPublic(constructor.getModifiers())) {
+      try {
+        CallSite site = LambdaMetafactory.metafactory(
+            lookup,
+            "get",
+            MethodType.methodType(Supplier.class),
+            MethodType.methodType(Object.class),
+            handle,
+            MethodType.methodType(clazz));
+        return (Supplier<Object>) site.getTarget().invokeExact();
+      } catch (LambdaConversionException e) {
+        // fall back to invoking the handle, e.g. for a class loader not visible to Parselo
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+    MethodHandle instantiator = handle.asType(MethodType.methodType(Object.class));
+    return () -> {
+      try {
+        return instantiator.invokeExact();
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    };
+  }
+}
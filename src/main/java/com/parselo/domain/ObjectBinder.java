@@ -0,0 +1,133 @@
+package com.parselo.domain;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/**
+ * Creates the instances of a Parselo annotated class and assigns the converted cell values to their fields.
+ * <p>
+ * The binder is created once, together with the {@link RowMapping} of the class, so any reflective lookup is done
+ * up front and only the instantiation and assignments happen for each row.
+ *
+ * @param <T> the type of the bound objects
+ */
+interface ObjectBinder<T> {
+
+  /**
+   * Create a binder using the reflective {@link Constructor#newInstance} and {@link Field#set} calls.
+   *
+   * @param constructor the non-args constructor of the class
+   * @param fields the fields to assign, in the order of the columns of the spec
+   * @param <T> the type of the bound objects
+   * @return the reflective binder
+   */
+  static <T> ObjectBinder<T> reflection(Constructor<T> constructor, Field[] fields) {
+    return new ReflectionObjectBinder<>(constructor, fields);
+  }
+
+  /**
+   * Create a binder invoking method handles unreflected from the constructor and fields. The constructor is turned
+   * into a {@code Supplier} spun by the {@code LambdaMetafactory} when it is accessible to Parselo.
+   *
+   * @param constructor the non-args constructor of the class
+   * @param fields the fields to assign, in the order of the columns of the spec
+   * @param <T> the type of the bound objects
+   * @return the method handle binder
+   */
+  static <T> ObjectBinder<T> methodHandles(Constructor<T> constructor, Field[] fields) {
+    return new MethodHandleObjectBinder<>(constructor, fields);
+  }
+
+  /**
+   * Create a binder delegating to a mapper generated at compile time.
+   *
+   * @param mapper the generated mapper of the class
+   * @param <T> the type of the bound objects
+   * @return the binder of the generated mapper
+   */
+  static <T> ObjectBinder<T> generated(ParseloMapper<T> mapper) {
+    return new ObjectBinder<T>() {
+      @Override
+      public T newInstance() {
+        return mapper.newInstance();
+      }
+
+      @Override
+      public void set(T target, int field, Object value) {
+        mapper.set(target, field, value);
+      }
+
+      @Override
+      public void setInt(T target, int field, int value) {
+        mapper.setInt(target, field, value);
+      }
+
+      @Override
+      public void setLong(T target, int field, long value) {
+        mapper.setLong(target, field, value);
+      }
+
+      @Override
+      public void setDouble(T target, int field, double value) {
+        mapper.setDouble(target, field, value);
+      }
+
+      @Override
+      public void setBoolean(T target, int field, boolean value) {
+        mapper.setBoolean(target, field, value);
+      }
+    };
+  }
+
+  /**
+   * Create a new empty instance of the class.
+   *
+   * @return the new instance
+   */
+  T newInstance();
+
+  /**
+   * Assign a value to a field of an instance.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign, possibly null
+   */
+  void set(T target, int field, Object value);
+
+  /**
+   * Assign a value to a primitive {@code int} field of an instance, without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  void setInt(T target, int field, int value);
+
+  /**
+   * Assign a value to a primitive {@code long} field of an instance, without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  void setLong(T target, int field, long value);
+
+  /**
+   * Assign a value to a primitive {@code double} field of an instance, without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  void setDouble(T target, int field, double value);
+
+  /**
+   * Assign a value to a primitive {@code boolean} field of an instance, without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  void setBoolean(T target, int field, boolean value);
+}
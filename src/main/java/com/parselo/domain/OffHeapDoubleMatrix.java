@@ -0,0 +1,201 @@
+package com.parselo.domain;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Represents the result of parsing a matrix area of numbers into memory outside of the Java heap.
+ * <p>
+ * The values are held row after row as primitive doubles in a direct buffer, so neither filling nor reading the matrix
+ * allocates on the heap, and the values are never scanned by the garbage collector. The matrix must be closed once it
+ * is no longer needed, after which any read fails.
+ * <p>
+ * Closing the matrix frees the memory of the buffer straight away, through the cleaner of the buffer, rather than when
+ * the garbage collector gets to the buffer object. The buffer is therefore never handed out, and the matrix must not
+ * be read while another thread closes it. On a JVM without a reachable cleaner, the memory is freed by the garbage
+ * collector once the matrix is closed.
+ */
+public final class OffHeapDoubleMatrix implements AutoCloseable {
+
+  /**
+   * Frees the memory of a direct buffer, which must not be used afterwards.
+   */
+  private static final Consumer<ByteBuffer> FREE = freeing();
+
+  private ByteBuffer memory;
+  private volatile DoubleBuffer values;
+  private final int rowCount;
+  private final int columnCount;
+
+  /**
+   * Allocate a matrix filled with zeros.
+   *
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @return the matrix
+   * @throws IllegalArgumentException if the matrix does not fit in a single buffer
+   */
+  static OffHeapDoubleMatrix allocate(int rows, int columns) {
+    long bytes = (long) rows * columns * Double.BYTES;
+    if (bytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(String.format(
+          "Matrix of %d rows and %d columns does not fit in a single buffer",
+          rows,
+          columns));
+    }
+    ByteBuffer memory = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    return new OffHeapDoubleMatrix(memory, rows, columns);
+  }
+
+  private OffHeapDoubleMatrix(ByteBuffer memory, int rowCount, int columnCount) {
+    this.memory = memory;
+    this.values = memory.asDoubleBuffer();
+    this.rowCount = rowCount;
+    this.columnCount = columnCount;
+  }
+
+  //---------------------------------------------------------------
+  public double getElement(int row, int column) {
+    validateRow(row);
+    validateColumn(column);
+    return buffer().get(row * columnCount + column);
+  }
+
+  public int rowCount() {
+    return rowCount;
+  }
+
+  public int columnCount() {
+    return columnCount;
+  }
+
+  /**
+   * Copy the values row after row into the array given, starting at the offset given.
+   *
+   * @param target the array to copy the values into
+   * @param offset the index of the target to copy the first value to
+   * @throws IndexOutOfBoundsException if the array is too small to hold the values from the offset
+   * @throws IllegalStateException if the matrix is closed
+   */
+  public void copyInto(double[] target, int offset) {
+    if (offset < 0 || offset + rowCount * columnCount > target.length) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Cannot copy %d values into an array of length %d from index %d",
+          rowCount * columnCount,
+          target.length,
+          offset));
+    }
+    buffer().duplicate().get(target, offset, rowCount * columnCount);
+  }
+
+  /**
+   * Copy the values row after row into the buffer given, from its position.
+   *
+   * @param target the buffer to copy the values into, such as another direct buffer
+   * @throws java.nio.BufferOverflowException if the buffer has not enough room left for the values
+   * @throws IllegalStateException if the matrix is closed
+   */
+  public void copyInto(DoubleBuffer target) {
+    target.put(buffer().duplicate());
+  }
+
+  /**
+   * Check whether the matrix has been closed.
+   *
+   * @return true if the matrix is closed
+   */
+  public boolean isClosed() {
+    return values == null;
+  }
+
+  /**
+   * Free the memory of the matrix. Closing a matrix more than once has no effect.
+   */
+  @Override
+  public synchronized void close() {
+    if (memory != null) {
+      values = null;
+      FREE.accept(memory);
+      memory = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "OffHeapDoubleMatrix{rows=" + rowCount + ", columns=" + columnCount + (isClosed() ? ", closed}" : "}");
+  }
+
+  //---------------------------------------------------------------
+  /**
+   * Set the value at an index of the values, row after row, while filling the matrix.
+   *
+   * @param index the zero-based index of the value
+   * @param value the value
+   */
+  void set(int index, double value) {
+    values.put(index, value);
+  }
+
+  private DoubleBuffer buffer() {
+    DoubleBuffer buffer = values;
+    if (buffer == null) {
+      throw new IllegalStateException("Matrix has been closed");
+    }
+    return buffer;
+  }
+
+  // Unsafe.invokeCleaner frees a direct buffer from Java 9, the cleaner of the buffer on Java 8
+  private static Consumer<ByteBuffer> freeing() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> invoke(invokeCleaner, unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // not Java 9 or later
+    }
+    try {
+      Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> invoke(clean, invoke(cleaner, buffer));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return buffer -> {
+        // left to the garbage collector
+      };
+    }
+  }
+
+  private static Object invoke(Method method, Object target, Object... arguments) {
+    try {
+      return method.invoke(target, arguments);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot free the memory of the matrix", e);
+    }
+  }
+
+  private void validateRow(int rowIdx) {
+    if (rowIdx >= rowCount || rowIdx < 0) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Row index %d is outside of bounds [%d ; %d]]",
+          rowIdx,
+          0,
+          rowCount));
+    }
+  }
+
+  private void validateColumn(int columnIdx) {
+    if (columnIdx < 0 || columnIdx >= columnCount) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Column index %d is outside of bounds [%d ; %d]]",
+          columnIdx,
+          0,
+          columnCount));
+    }
+  }
+}
@@ -2,27 +2,53 @@ package com.parselo.domain;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.joda.beans.JodaBeanUtils;
 
-import com.google.common.collect.Lists;
+import com.google.common.io.Files;
 import com.google.common.io.Resources;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Class for wrapping an HSSFWorkbook to provide utility methods for parsing arrays, matrices or annotated java objects.
  */
 public class Parselo {
 
+  /**
+   * The share of cells present in the sheet below which a parsed matrix is held sparse.
+   */
+  private static final double SPARSE_DENSITY = 0.25;
+
   private final ParseloAnnotationParser annotationParser;
 
   private final HSSFWorkbook workbook;
@@ -50,6 +76,9 @@ public class Parselo {
    */
   public static Parselo of(String filename) {
     URL url = Resources.getResource(filename);
+    if ("file".equals(url.getProtocol())) {
+      return Parselo.of(resourcePath(url));
+    }
     try (InputStream in = Resources.asByteSource(url).openStream()) {
       return Parselo.of(new HSSFWorkbook(in));
     } catch (IOException e) {
@@ -57,7 +86,151 @@ public class Parselo {
     }
   }
 
+  /**
+   * Create a new instance of the Parselo given the path of an xls on the file system. The OLE2 container is read
+   * straight from a read-only file channel, rather than being copied into memory before the workbook is built.
+   *
+   * @param path the path of the xls to wrap
+   * @return the parselo instance
+   */
+  public static Parselo of(Path path) {
+    JodaBeanUtils.notNull(path, "path");
+    try (NPOIFSFileSystem fileSystem = openReadOnly(path)) {
+      return Parselo.of(new HSSFWorkbook(fileSystem.getRoot(), false));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Create a new instance of the Parselo given an xls file. The OLE2 container is read straight from a read-only file
+   * channel, rather than being copied into memory before the workbook is built.
+   *
+   * @param file the xls to wrap
+   * @return the parselo instance
+   */
+  public static Parselo of(File file) {
+    JodaBeanUtils.notNull(file, "file");
+    return Parselo.of(file.toPath());
+  }
+
+  /**
+   * Create a new streaming Parselo given a filename for an xls. The workbook is not loaded in memory, instead the rows
+   * are streamed from the file every time something is parsed. A resource packaged in a jar is first copied to a
+   * temporary file.
+   *
+   * @param filename the name of the xls to stream
+   * @return the streaming parselo instance
+   */
+  public static StreamingParselo streaming(String filename) {
+    return Parselo.streaming(resourceFile(filename, ".xls").toPath());
+  }
+
+  /**
+   * Create a new streaming Parselo given the path of an xls on the file system. The workbook is not loaded in memory,
+   * instead the records are read from a read-only file channel every time something is parsed.
+   *
+   * @param path the path of the xls to stream
+   * @return the streaming parselo instance
+   */
+  public static StreamingParselo streaming(Path path) {
+    JodaBeanUtils.notNull(path, "path");
+    return StreamingParselo.of(new XlsRowStreamer(() -> openReadOnly(path)));
+  }
+
+  /**
+   * Create a new streaming Parselo given a filename for an xlsx. The workbook is not loaded in memory, instead the
+   * sheet XML is streamed from the file every time something is parsed.
+   *
+   * @param filename the name of the xlsx to stream
+   * @return the streaming parselo instance
+   */
+  public static StreamingParselo streamingXlsx(String filename) {
+    return StreamingParselo.of(new XlsxRowStreamer(resourceFile(filename, ".xlsx")));
+  }
+
+  /**
+   * Create a new streaming Parselo given the path of an xlsx on the file system. The workbook is not loaded in memory,
+   * instead the sheet XML is streamed from the file every time something is parsed.
+   *
+   * @param path the path of the xlsx to stream
+   * @return the streaming parselo instance
+   */
+  public static StreamingParselo streamingXlsx(Path path) {
+    JodaBeanUtils.notNull(path, "path");
+    return StreamingParselo.of(new XlsxRowStreamer(path.toFile()));
+  }
+
   //--------------------------------------------------------------------
+  /**
+   * Provide a Parselo over the same workbook which maps the rows of annotated classes in parallel, on the common
+   * {@link ForkJoinPool}. The rows of the spec are split in chunks mapped concurrently, and the parsed objects are
+   * returned in row order, exactly as a sequential parse would return them. Small specs are still parsed on the calling
+   * thread.
+   *
+   * @return the parallel parselo instance
+   */
+  public Parselo parallel() {
+    return parallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Provide a Parselo over the same workbook which maps the rows of annotated classes in parallel on the executor
+   * given. The rows of the spec are split in chunks mapped concurrently, and the parsed objects are returned in row
+   * order, exactly as a sequential parse would return them. Small specs are still parsed on the calling thread.
+   *
+   * @param executor the executor mapping the chunks of rows
+   * @return the parallel parselo instance
+   */
+  public Parselo parallel(Executor executor) {
+    JodaBeanUtils.notNull(executor, "executor");
+    return new Parselo(workbook, annotationParser.withExecutor(executor));
+  }
+
+  /**
+   * Provide a Parselo over the same workbook which leaves the empty rows out of the parsed objects, lists and matrices.
+   * A row is empty when it is missing from the sheet or has no cell in the columns of the spec.
+   * <p>
+   * By default, empty rows are parsed like any other row: annotated objects are left with empty fields, and lists and
+   * matrices are filled with the default values of the converter. Either way only the rows physically present in the
+   * sheet are read, so parsing a large, sparsely filled area costs as much as the rows actually filled.
+   *
+   * @return the parselo instance skipping empty rows
+   */
+  public Parselo skipEmptyRows() {
+    return new Parselo(workbook, annotationParser.skippingEmptyRows());
+  }
+
+  /**
+   * Provide a Parselo over the same workbook which converts the fields of annotated classes with the converters of the
+   * registry given, such as converters of {@code BigDecimal}, enum or application types. The converter of every field
+   * is looked up once per class and registry, before any cell is read, and a field of a type the registry has no
+   * converter for is rejected with an {@code IllegalArgumentException}. Lists, streams and matrices keep using the
+   * converter given to their parse method.
+   *
+   * @param registry the registry of the converters
+   * @return the parselo instance using the registry
+   */
+  public Parselo withConverters(ConverterRegistry registry) {
+    JodaBeanUtils.notNull(registry, "registry");
+    return new Parselo(workbook, annotationParser.withConverters(registry));
+  }
+
+  /**
+   * Provide a Parselo over the same workbook which replaces every parsed string by a canonical instance, so that equal
+   * strings parsed from different cells are held only once. This applies to the string fields of annotated classes and
+   * to lists, streams and matrices of strings.
+   * <p>
+   * Every parse holds a dictionary of its own, as do every stream and lazy matrix for as long as they are referenced.
+   * A dictionary is left to the garbage collector along with its parse, so the returned Parselo retains no string.
+   * Equal strings of different parses are therefore distinct instances.
+   *
+   * @return the parselo instance interning strings
+   */
+  public Parselo internStrings() {
+    return new Parselo(workbook, annotationParser.internStrings());
+  }
+
   /**
    * Provide all the sheet names from the workbook.
    *
@@ -84,19 +257,88 @@ public class Parselo {
     JodaBeanUtils.notNull(spec, "spec");
     JodaBeanUtils.notNull(cellConverter, "cellConverter");
     HSSFSheet sheet = getSheet(sheetName);
+    validateArray(spec);
+    return parseList(sheet, spec, annotationParser.forParse(cellConverter));
+  }
 
-    if (spec.isHorizontalArray() || spec.isVerticalArray()) {
-      return parseList(sheet, spec, cellConverter);
-    } else {
-      throw new IllegalArgumentException(String.format(
-          "Spec does not define an array. Either the start & end row must be the same or the " +
-              "start cell and end cell must be the same. Instead found: %s", spec));
-    }
+  /**
+   * Parse an array of doubles defined by the spec from the given sheet, converting the cells straight into the array
+   * without boxing them. Empty/Null cells will be mapped to the default value specified in
+   * {@link DoubleCellConverter#getDoubleDefault()}.
+   *
+   * @param sheetName the sheet name
+   * @param cellConverter the function to convert a cell to a double, such as {@link CellConverters#TO_DOUBLE}
+   * @param spec the specification for the array area
+   * @return the array of doubles
+   * @throws IllegalArgumentException if the sheet name doesn't exist or the spec does not define an array area
+   */
+  public double[] parseDoubles(String sheetName, DoubleCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    validateArray(spec);
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    double[] values = new double[rows.size() * spec.columns()];
+
+    forEachCell(rows, spec, (index, cell) -> values[index] = cellConverter.convertDoubleWithDefault(cell));
+
+    return values;
+  }
+
+  /**
+   * Parse an array of ints defined by the spec from the given sheet, converting the cells straight into the array
+   * without boxing them. Empty/Null cells will be mapped to the default value specified in
+   * {@link IntCellConverter#getIntDefault()}.
+   *
+   * @param sheetName the sheet name
+   * @param cellConverter the function to convert a cell to a int, such as {@link CellConverters#TO_INTEGER}
+   * @param spec the specification for the array area
+   * @return the array of ints
+   * @throws IllegalArgumentException if the sheet name doesn't exist or the spec does not define an array area
+   */
+  public int[] parseInts(String sheetName, IntCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    validateArray(spec);
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    int[] values = new int[rows.size() * spec.columns()];
+
+    forEachCell(rows, spec, (index, cell) -> values[index] = cellConverter.convertIntWithDefault(cell));
+
+    return values;
+  }
+
+  /**
+   * Parse an array of longs defined by the spec from the given sheet, converting the cells straight into the array
+   * without boxing them. Empty/Null cells will be mapped to the default value specified in
+   * {@link LongCellConverter#getLongDefault()}.
+   *
+   * @param sheetName the sheet name
+   * @param cellConverter the function to convert a cell to a long, such as {@link CellConverters#TO_LONG}
+   * @param spec the specification for the array area
+   * @return the array of longs
+   * @throws IllegalArgumentException if the sheet name doesn't exist or the spec does not define an array area
+   */
+  public long[] parseLongs(String sheetName, LongCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    validateArray(spec);
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    long[] values = new long[rows.size() * spec.columns()];
+
+    forEachCell(rows, spec, (index, cell) -> values[index] = cellConverter.convertLongWithDefault(cell));
+
+    return values;
   }
 
   /**
    * Parse a matrix described by the specification from the given sheet name. Empty/Null cells will be mapped to the
    * default value specified in {@link CellConverter#getDefault()}.
+   * <p>
+   * When less than a quarter of the cells of the area are present in the sheet, the matrix is held sparse as by
+   * {@link #parseSparseMatrix(String, CellConverter, ParseloSpec)}, otherwise every cell is held.
    *
    * @param sheetName the sheet name to parseStatic
    * @param cellConverter the function to convert a cell to an object of type T
@@ -113,7 +355,139 @@ public class Parselo {
     JodaBeanUtils.notNull(spec, "spec");
     JodaBeanUtils.notNull(cellConverter, "cellConverter");
     HSSFSheet sheet = getSheet(sheetName);
-    return parseMatrix(sheet, spec, cellConverter);
+    return parseMatrix(sheet, spec, annotationParser.forParse(cellConverter), false);
+  }
+
+  /**
+   * Parse a sparse matrix described by the specification from the given sheet name. Only the cells present in the
+   * sheet are converted and held by the matrix, all the other cells share the single default value specified in
+   * {@link CellConverter#getDefault()}, so the memory used depends on the cells present rather than on the area.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an object of type T
+   * @param spec the matrix specification
+   * @param <T> the type of the elements in the matrix
+   * @return the sparse matrix
+   * @throws IllegalArgumentException if the sheet is null or the spec is null
+   */
+  public <T> ParseloMatrix<T> parseSparseMatrix(
+      String sheetName,
+      CellConverter<T> cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    return parseMatrix(sheet, spec, annotationParser.forParse(cellConverter), true);
+  }
+
+  /**
+   * Provide a lazy matrix over the area described by the specification from the given sheet name. No cell is converted
+   * up front: each cell is converted the first time it is read and the converted value is kept for the following
+   * reads. Comparing, hashing or printing the matrix as a whole converts the rest of the area. Empty/Null cells will be
+   * mapped to the default value specified in {@link CellConverter#getDefault()}.
+   * <p>
+   * The matrix reads the workbook until all of its cells are converted, so the converter must be safe to share
+   * between the threads reading the matrix.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an object of type T
+   * @param spec the matrix specification
+   * @param <T> the type of the elements in the matrix
+   * @return the lazy matrix
+   * @throws IllegalArgumentException if the sheet is null or the spec is null
+   */
+  public <T> ParseloMatrix<T> parseLazyMatrix(
+      String sheetName,
+      CellConverter<T> cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    CellConverter<T> converter = annotationParser.interning(cellConverter);
+    int columnStart = spec.getColumnStartIndex() - 1;
+    int columns = spec.columns();
+
+    if (annotationParser.isSkippingEmptyRows()) {
+      // the rows left are only known by walking the rows of the sheet
+      List<HSSFRow> rows = physicalRows(sheet, spec);
+      return ParseloMatrix.over(
+          new LazyMatrixCells(rows::get, rows.size(), columnStart, columns, converter), rows.size(), columns);
+    }
+    int rowStart = spec.getRowStart() - 1;
+    return ParseloMatrix.over(
+        new LazyMatrixCells(rowOffset -> sheet.getRow(rowStart + rowOffset), spec.rows(), columnStart, columns,
+            converter),
+        spec.rows(),
+        columns);
+  }
+
+  /**
+   * Parse a matrix of doubles described by the specification from the given sheet name, without boxing the values.
+   * Empty/Null cells will be mapped to the default value specified in {@link DoubleCellConverter#getDoubleDefault()}.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to a double, such as {@link CellConverters#TO_DOUBLE}
+   * @param spec the matrix specification
+   * @return the matrix of doubles
+   * @throws IllegalArgumentException if the sheet is null or the spec is null
+   */
+  public DoubleMatrix parseDoubleMatrix(String sheetName, DoubleCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    double[] values = new double[rows.size() * spec.columns()];
+
+    forEachCell(rows, spec, (index, cell) -> values[index] = cellConverter.convertDoubleWithDefault(cell));
+
+    return DoubleMatrix.wrap(values, rows.size(), spec.columns());
+  }
+
+  /**
+   * Parse a matrix of doubles described by the specification from the given sheet name into memory outside of the Java
+   * heap, without boxing the values. Empty/Null cells will be mapped to the default value specified in
+   * {@link DoubleCellConverter#getDoubleDefault()}. The matrix must be closed once it is no longer needed.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to a double, such as {@link CellConverters#TO_DOUBLE}
+   * @param spec the matrix specification
+   * @return the off-heap matrix of doubles
+   * @throws IllegalArgumentException if the sheet is null, the spec is null or the area does not fit in a buffer
+   */
+  public OffHeapDoubleMatrix parseOffHeapMatrix(String sheetName, DoubleCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    OffHeapDoubleMatrix matrix = OffHeapDoubleMatrix.allocate(rows.size(), spec.columns());
+
+    forEachCell(rows, spec, (index, cell) -> matrix.set(index, cellConverter.convertDoubleWithDefault(cell)));
+
+    return matrix;
+  }
+
+  /**
+   * Parse a matrix of ints described by the specification from the given sheet name, without boxing the values.
+   * Empty/Null cells will be mapped to the default value specified in {@link IntCellConverter#getIntDefault()}.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an int, such as {@link CellConverters#TO_INTEGER}
+   * @param spec the matrix specification
+   * @return the matrix of ints
+   * @throws IllegalArgumentException if the sheet is null or the spec is null
+   */
+  public IntMatrix parseIntMatrix(String sheetName, IntCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    int[] values = new int[rows.size() * spec.columns()];
+
+    forEachCell(rows, spec, (index, cell) -> values[index] = cellConverter.convertIntWithDefault(cell));
+
+    return IntMatrix.wrap(values, rows.size(), spec.columns());
   }
 
   /**
@@ -138,7 +512,282 @@ public class Parselo {
     return annotationParser.parseDynamic(sheet, clazz, spec);
   }
 
+  /**
+   * Parse objects of a specific type from the sheet given, handing them over to the sink in batches as they are
+   * parsed, so only one batch of objects is held at a time. The type of the objects parsed needs to be Parselo
+   * annotated with a {@link ConfigurationType#STATIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param batchSize the maximum number of objects in a batch
+   * @param sink the sink of the batches, which can stop the parsing
+   * @param <T> the type of objects to parse
+   * @return the number of objects parsed
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo or the batch size is not positive
+   */
+  public <T> int parse(String sheetName, Class<T> clazz, int batchSize, BatchSink<T> sink) {
+    HSSFSheet sheet = getSheet(sheetName);
+    return annotationParser.parseBatches(sheet, annotationParser.staticMapping(clazz), batchSize, sink);
+  }
+
+  /**
+   * Parse objects of a specific type from the area of the sheet given by the spec, handing them over to the sink in
+   * batches as they are parsed, so only one batch of objects is held at a time.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param batchSize the maximum number of objects in a batch
+   * @param sink the sink of the batches, which can stop the parsing
+   * @param <T> the type of objects to parse
+   * @return the number of objects parsed
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo or the batch size is not positive
+   */
+  public <T> int parse(String sheetName, Class<T> clazz, ParseloSpec spec, int batchSize, BatchSink<T> sink) {
+    HSSFSheet sheet = getSheet(sheetName);
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    return annotationParser.parseBatches(sheet, annotationParser.dynamicMapping(clazz, spec), batchSize, sink);
+  }
+
+  /**
+   * Parse the rows of a specific type from the sheet given into a table holding the values column by column. Objects
+   * of the type are only created when a row of the table is asked for. The type of the objects parsed needs to be
+   * Parselo annotated with a {@link ConfigurationType#STATIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param <T> the type of the rows
+   * @return the table of the rows parsed from the sheet
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo
+   */
+  public <T> ParseloTable<T> parseTable(String sheetName, Class<T> clazz) {
+    HSSFSheet sheet = getSheet(sheetName);
+    return annotationParser.parseTable(sheet, annotationParser.staticMapping(clazz));
+  }
+
+  /**
+   * Parse the rows of a specific type from the area of the sheet given by the spec into a table holding the values
+   * column by column. Objects of the type are only created when a row of the table is asked for.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param <T> the type of the rows
+   * @return the table of the rows parsed from the sheet
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo
+   */
+  public <T> ParseloTable<T> parseTable(String sheetName, Class<T> clazz, ParseloSpec spec) {
+    HSSFSheet sheet = getSheet(sheetName);
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    return annotationParser.parseTable(sheet, annotationParser.dynamicMapping(clazz, spec));
+  }
+
+  /**
+   * Lazily parse objects of a specific type from the sheet given. Each object is only parsed when the stream pulls it,
+   * and the stream is sized and splits evenly when run in parallel, unless empty rows are skipped. The type of the
+   * objects parsed needs to be Parselo annotated with a {@link ConfigurationType#STATIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param <T> the type of objects to parse
+   * @return the stream of objects of type T parsed from the sheet
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo
+   */
+  public <T> Stream<T> stream(String sheetName, Class<T> clazz) {
+    HSSFSheet sheet = getSheet(sheetName);
+    return annotationParser.stream(sheet, annotationParser.staticMapping(clazz));
+  }
+
+  /**
+   * Lazily parse objects of a specific type from the area of the sheet given by the spec. Each object is only parsed
+   * when the stream pulls it, and the stream is sized and splits evenly when run in parallel, unless empty rows are
+   * skipped.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param <T> the type of objects to parse
+   * @return the stream of objects of type T parsed from the sheet
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo
+   */
+  public <T> Stream<T> stream(String sheetName, Class<T> clazz, ParseloSpec spec) {
+    HSSFSheet sheet = getSheet(sheetName);
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    RowMapping<T> mapping = annotationParser.dynamicMapping(clazz, spec);
+    return annotationParser.stream(sheet, mapping);
+  }
+
+  /**
+   * Lazily parse objects of a specific type from the sheet given, one object for each call to {@code next()}.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param <T> the type of objects to parse
+   * @return the iterator over the objects of type T parsed from the sheet
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo
+   * @see #stream(String, Class)
+   */
+  public <T> Iterator<T> iterator(String sheetName, Class<T> clazz) {
+    HSSFSheet sheet = getSheet(sheetName);
+    return annotationParser.stream(sheet, annotationParser.staticMapping(clazz)).iterator();
+  }
+
+  /**
+   * Lazily parse objects of a specific type from the area of the sheet given by the spec, one object for each call to
+   * {@code next()}.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param <T> the type of objects to parse
+   * @return the iterator over the objects of type T parsed from the sheet
+   * @throws IllegalArgumentException if the class T is not annotated for Parselo
+   * @see #stream(String, Class, ParseloSpec)
+   */
+  public <T> Iterator<T> iterator(String sheetName, Class<T> clazz, ParseloSpec spec) {
+    HSSFSheet sheet = getSheet(sheetName);
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    return annotationParser.stream(sheet, annotationParser.dynamicMapping(clazz, spec)).iterator();
+  }
+
+  /**
+   * Lazily parse an array defined by the spec from the given sheet, converting each cell only when the stream pulls
+   * it. Empty/Null cells will be mapped to the default value specified in {@link CellConverter#getDefault()}.
+   *
+   * @param sheetName the sheet name
+   * @param cellConverter the function to convert a cell to an object of type T
+   * @param spec the specification for the array area
+   * @param <T> the type of the elements in the stream
+   * @return the stream of elements
+   * @throws IllegalArgumentException if the sheet name doesn't exist or the spec does not define an array area
+   */
+  public <T> Stream<T> stream(String sheetName, CellConverter<T> cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(spec, "spec");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    HSSFSheet sheet = getSheet(sheetName);
+    validateArray(spec);
+    CellConverter<T> converter = annotationParser.interning(cellConverter);
+
+    int rowStart = spec.getRowStart() - 1;
+    int columnStart = spec.getColumnStartIndex() - 1;
+    int columns = spec.columns();
+    IndexSpliterator<T> cells = new IndexSpliterator<>(
+        index -> converter.convertWithDefault(
+            cell(sheet.getRow(rowStart + index / columns), columnStart + index % columns)),
+        0,
+        spec.rows() * columns);
+    return StreamSupport.stream(cells, false);
+  }
+
+  /**
+   * Run a job asynchronously on the executor given.
+   * <p>
+   * The workbook is only read while parsing, so any number of jobs can run concurrently on the same Parselo. The
+   * converters provided by {@link CellConverters} are safe to share between threads, custom converters used by
+   * concurrent jobs need to be as well.
+   *
+   * @param job the job to run
+   * @param executor the executor running the job
+   * @param <R> the type of the result of the job
+   * @return the future result of the job
+   */
+  public <R> CompletableFuture<R> parseAsync(ParseloJob<R> job, Executor executor) {
+    JodaBeanUtils.notNull(job, "job");
+    JodaBeanUtils.notNull(executor, "executor");
+    return CompletableFuture.supplyAsync(() -> job.run(this), executor);
+  }
+
+  /**
+   * Run jobs concurrently on the executor given, completing once all of them have completed.
+   *
+   * @param jobs the jobs to run
+   * @param executor the executor running the jobs
+   * @return the future results, keyed by job, completing exceptionally if any of the jobs failed
+   * @see #parseAsync(ParseloJob, Executor)
+   */
+  public CompletableFuture<ParseloResults> parseAll(Collection<? extends ParseloJob<?>> jobs, Executor executor) {
+    JodaBeanUtils.notNull(jobs, "jobs");
+    JodaBeanUtils.notNull(executor, "executor");
+    Map<ParseloJob<?>, CompletableFuture<?>> futures = new LinkedHashMap<>();
+    for (ParseloJob<?> job : jobs) {
+      futures.put(job, parseAsync(job, executor));
+    }
+    return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+        .thenApply(done -> {
+          Map<ParseloJob<?>, Object> results = new LinkedHashMap<>();
+          futures.forEach((job, future) -> results.put(job, future.join()));
+          return new ParseloResults(results);
+        });
+  }
+
+  /**
+   * Run jobs concurrently on at most the number of threads given, waiting for all of them to complete. The threads
+   * are only kept for the duration of the call.
+   *
+   * @param jobs the jobs to run
+   * @param maxThreads the maximum number of jobs running at the same time
+   * @return the results, keyed by job
+   * @throws IllegalArgumentException if the max number of threads is not positive
+   * @see #parseAsync(ParseloJob, Executor)
+   */
+  public ParseloResults parseAll(Collection<? extends ParseloJob<?>> jobs, int maxThreads) {
+    JodaBeanUtils.notNull(jobs, "jobs");
+    if (maxThreads < 1) {
+      throw new IllegalArgumentException("maxThreads expected to be a positive number but was " + maxThreads);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(maxThreads, jobs.size())),
+        new ThreadFactoryBuilder().setNameFormat("parselo-%d").setDaemon(true).build());
+    try {
+      return parseAll(jobs, executor).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   //--------------------------------------------------------------------
+  // Resources packaged in a jar are copied to a temporary file, as the xlsx zip can only be streamed from a file and the
+  // blocks of an xls are only read on demand from a file channel, instead of buffering the whole stream in memory
+  private static File resourceFile(String filename, String suffix) {
+    URL url = Resources.getResource(filename);
+    if ("file".equals(url.getProtocol())) {
+      return resourcePath(url).toFile();
+    }
+    try {
+      File file = File.createTempFile("parselo", suffix);
+      file.deleteOnExit();
+      Resources.asByteSource(url).copyTo(Files.asByteSink(file));
+      return file;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static Path resourcePath(URL url) {
+    try {
+      return Paths.get(url.toURI());
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  // Blocks of the OLE2 container are read from the channel on demand, the file is never copied in memory as a whole
+  private static NPOIFSFileSystem openReadOnly(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new NPOIFSFileSystem(channel, true);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
   private HSSFSheet getSheet(String sheetName) {
     if (sheetName == null) {
       throw new NullPointerException("SheetName cannot be null");
@@ -150,30 +799,109 @@ public class Parselo {
     return sheet;
   }
 
+  private static void validateArray(ParseloSpec spec) {
+    if (!spec.isHorizontalArray() && !spec.isVerticalArray()) {
+      throw new IllegalArgumentException(String.format(
+          "Spec does not define an array. Either the start & end row must be the same or the " +
+              "start cell and end cell must be the same. Instead found: %s", spec));
+    }
+  }
+
   private <T> List<T> parseList(HSSFSheet sheet, ParseloSpec spec, CellConverter<T> cellConverter) {
-    List<T> array = Lists.newLinkedList();
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    List<T> array = new ArrayList<>(rows.size() * spec.columns());
+
+    forEachCell(rows, spec, (index, cell) -> array.add(cellConverter.convertWithDefault(cell)));
+
+    return array;
+  }
+
+  private <T> ParseloMatrix<T> parseMatrix(
+      HSSFSheet sheet,
+      ParseloSpec spec,
+      CellConverter<T> cellConverter,
+      boolean sparse) {
+
+    List<HSSFRow> rows = physicalRows(sheet, spec);
+    int columnStart = spec.getColumnStartIndex() - 1;
+    int columns = spec.columns();
+    SparseMatrixCells.Builder present = new SparseMatrixCells.Builder(rows.size());
+
+    for (int rowOffset = 0; rowOffset < rows.size(); rowOffset++) {
+      HSSFRow row = rows.get(rowOffset);
+      if (row == null) {
+        continue;
+      }
+      int lastColumn = Math.min(columnStart + columns, row.getLastCellNum());
+      for (int column = Math.max(columnStart, row.getFirstCellNum()); column < lastColumn; column++) {
+        HSSFCell cell = row.getCell(column);
+        if (cell != null) {
+          present.add(rowOffset, column - columnStart, cellConverter.convertWithDefault(cell));
+        }
+      }
+    }
+
+    if (sparse || present.size() < rows.size() * columns * SPARSE_DENSITY) {
+      return ParseloMatrix.over(present.build(cellConverter.getDefault()), rows.size(), columns);
+    }
+    return ParseloMatrix.wrap(present.toDense(columns, cellConverter::getDefault), rows.size(), columns);
+  }
+
+  // The rows of the spec area in order, walking only the rows present in the sheet. Missing rows are either null or
+  // left out along with the empty rows, when empty rows are skipped.
+  private List<HSSFRow> physicalRows(HSSFSheet sheet, ParseloSpec spec) {
     int rowStart = spec.getRowStart() - 1;
+    int rowEnd = spec.getRowEnd() - 1;
     int columnStart = spec.getColumnStartIndex() - 1;
+    boolean skipEmptyRows = annotationParser.isSkippingEmptyRows();
+    List<HSSFRow> rows = new ArrayList<>();
 
-    for (int rowOffset = 0; rowOffset < spec.rows(); rowOffset++) {
-      for (int colOffset = 0; colOffset < spec.columns(); colOffset++) {
-        HSSFCell cell = sheet.getRow(rowStart + rowOffset).getCell(columnStart + colOffset);
-        array.add(cellConverter.convertWithDefault(cell));
+    SheetRows.forEachRow(sheet, rowStart, rowEnd, (row, rowIndex) -> {
+      if (skipEmptyRows) {
+        if (!SheetRows.isEmpty(row, columnStart, spec.columns())) {
+          rows.add(row);
+        }
+      } else {
+        rows.addAll(Collections.nCopies(rowIndex - rowStart - rows.size(), null));
+        rows.add(row);
       }
+      return true;
+    });
+    if (!skipEmptyRows) {
+      rows.addAll(Collections.nCopies(spec.rows() - rows.size(), null));
     }
+    return rows;
+  }
 
-    return array;
+  // Visits every cell of the columns of the spec in the rows given, row after row, with its index in the visiting order.
+  // Missing rows and cells are visited as null cells, for the visitor to apply the default of its converter.
+  private static void forEachCell(List<HSSFRow> rows, ParseloSpec spec, CellVisitor visitor) {
+    int columnStart = spec.getColumnStartIndex() - 1;
+    int columns = spec.columns();
+    int index = 0;
+    for (HSSFRow row : rows) {
+      for (int colOffset = 0; colOffset < columns; colOffset++) {
+        visitor.visit(index++, cell(row, columnStart + colOffset));
+      }
+    }
   }
 
-  private <T> ParseloMatrix<T> parseMatrix(HSSFSheet sheet, ParseloSpec spec, CellConverter<T> cellConverter) {
-    final int rowStart = spec.getRowStart() - 1;
-    final int columnStart = spec.getColumnStartIndex() - 1;
+  private static HSSFCell cell(HSSFRow row, int column) {
+    return row == null ? null : row.getCell(column);
+  }
 
-    BiFunction<Integer, Integer, T> valueFunction =
-        (rowOffset, columnOffset) -> cellConverter.convertWithDefault(
-            sheet.getRow(rowStart + rowOffset)
-                .getCell(columnStart + columnOffset));
+  /**
+   * Visits the cells of a parsed area, see {@link #forEachCell(List, ParseloSpec, CellVisitor)}.
+   */
+  @FunctionalInterface
+  private interface CellVisitor {
 
-    return ParseloMatrix.of(spec.rows(), spec.columns(), valueFunction);
+    /**
+     * Visit a cell.
+     *
+     * @param index the index of the cell in the area, row after row
+     * @param cell the cell, null when missing from the sheet
+     */
+    void visit(int index, HSSFCell cell);
   }
 }
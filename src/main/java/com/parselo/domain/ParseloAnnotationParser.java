@@ -4,16 +4,25 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.text.ParsePosition;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.parselo.annotations.ParseloColumn;
 import com.parselo.annotations.ParseloPosition;
 import com.parselo.annotations.ParseloRow;
@@ -24,6 +33,159 @@ import com.parselo.exception.InvalidConfigurationException;
  */
 class ParseloAnnotationParser {
 
+  /**
+   * The row mappings of the {@link ConfigurationType#STATIC} classes, compiled once per class.
+   */
+  private static final ClassValue<RowMapping<?>> STATIC_MAPPINGS = new ClassValue<RowMapping<?>>() {
+    @Override
+    protected RowMapping<?> computeValue(Class<?> clazz) {
+      return compileStaticMapping(clazz);
+    }
+  };
+
+  /**
+   * The row mappings of the {@link ConfigurationType#DYNAMIC} classes, compiled once per class and bound to the spec
+   * of each parse.
+   */
+  private static final ClassValue<RowMapping<?>> DYNAMIC_MAPPINGS = new ClassValue<RowMapping<?>>() {
+    @Override
+    protected RowMapping<?> computeValue(Class<?> clazz) {
+      return compileDynamicMapping(clazz);
+    }
+  };
+
+  /**
+   * The mappings resolved with the default converters.
+   */
+  private static final RegistryMappings DEFAULT_MAPPINGS = new RegistryMappings(ConverterRegistry.defaults());
+
+  /**
+   * The minimum number of rows mapped by a task when parsing in parallel, so tasks outweigh their scheduling.
+   */
+  private static final int MIN_CHUNK_ROWS = 512;
+  /**
+   * The number of tasks per thread when parsing in parallel, so threads finishing early can pick up more work.
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  /**
+   * The executor mapping chunks of rows in parallel, null to map the rows on the calling thread.
+   */
+  private final Executor executor;
+  /**
+   * Whether rows missing from the sheet, or without any cell in the parsed area, are left out of the parsed objects.
+   * Otherwise they are parsed as objects with empty fields.
+   */
+  private final boolean skipEmptyRows;
+  /**
+   * Whether the parsed strings are replaced by a canonical instance, held in a dictionary of each parse.
+   */
+  private final boolean internStrings;
+  /**
+   * The mappings resolved with the converters of a registry.
+   */
+  private final RegistryMappings converters;
+
+  ParseloAnnotationParser() {
+    this(null, false, false, DEFAULT_MAPPINGS);
+  }
+
+  private ParseloAnnotationParser(
+      Executor executor,
+      boolean skipEmptyRows,
+      boolean internStrings,
+      RegistryMappings converters) {
+
+    this.executor = executor;
+    this.skipEmptyRows = skipEmptyRows;
+    this.internStrings = internStrings;
+    this.converters = converters;
+  }
+
+  /**
+   * Provide a parser mapping the rows in parallel on the executor given.
+   *
+   * @param executor the executor mapping chunks of rows
+   * @return the parallel parser
+   */
+  ParseloAnnotationParser withExecutor(Executor executor) {
+    return new ParseloAnnotationParser(executor, skipEmptyRows, internStrings, converters);
+  }
+
+  /**
+   * Provide a parser leaving the empty rows out of the parsed objects.
+   *
+   * @return the parser skipping empty rows
+   */
+  ParseloAnnotationParser skippingEmptyRows() {
+    return new ParseloAnnotationParser(executor, true, internStrings, converters);
+  }
+
+  /**
+   * Check whether the empty rows are left out of the parsed objects.
+   *
+   * @return true if the empty rows are skipped
+   */
+  boolean isSkippingEmptyRows() {
+    return skipEmptyRows;
+  }
+
+  /**
+   * Provide a parser replacing the parsed strings by a canonical instance. Every parse, stream or lazy matrix holds a
+   * dictionary of its own, left to the garbage collector along with it.
+   *
+   * @return the parser interning strings
+   */
+  ParseloAnnotationParser internStrings() {
+    return new ParseloAnnotationParser(executor, skipEmptyRows, true, converters);
+  }
+
+  /**
+   * Provide a parser converting the fields of the annotated classes with the converters of the registry given.
+   *
+   * @param registry the registry of the converters
+   * @return the parser using the registry
+   */
+  ParseloAnnotationParser withConverters(ConverterRegistry registry) {
+    return new ParseloAnnotationParser(executor, skipEmptyRows, internStrings, new RegistryMappings(registry));
+  }
+
+  /**
+   * Wrap a converter so that the strings it converts are interned in a dictionary of its own, when the parser interns
+   * strings.
+   *
+   * @param converter the converter to wrap
+   * @param <T> the type converted to
+   * @return the converter to use
+   */
+  <T> CellConverter<T> interning(CellConverter<T> converter) {
+    return internStrings ? new StringDictionary().interning(converter) : converter;
+  }
+
+  /**
+   * Provide the converter of a single parse, given by {@link CellConverter#forParse()}, interning its strings when the
+   * parser interns strings.
+   *
+   * @param converter the shared converter
+   * @param <T> the type converted to
+   * @return the converter to use for the parse
+   */
+  <T> CellConverter<T> forParse(CellConverter<T> converter) {
+    return interning(converter.forParse());
+  }
+
+  /**
+   * Provide the mapping of a single parse, given by {@link RowMapping#forParse()}, interning its strings in a
+   * dictionary of the parse when the parser interns strings.
+   *
+   * @param mapping the shared mapping
+   * @param <T> the type of the mapped objects
+   * @return the mapping to use for the parse
+   */
+  <T> RowMapping<T> forParse(RowMapping<T> mapping) {
+    return interning(mapping.forParse(), parseStrings());
+  }
+
   /**
    * Parse a given sheet for a list of objects of the provided type.
    *
@@ -35,17 +197,7 @@ class ParseloAnnotationParser {
    * cannot be parsed from the sheet
    */
   <T> List<T> parseStatic(HSSFSheet sheet, Class<T> clazz) {
-    try {
-      ParseloRow rowAnnotation = extractClassAnnotation(clazz, ParseloRow.class);
-      List<Field> fields = extractSortedColumnAnnotatedFields(clazz);
-      ParseloSpec spec = createSpec(rowAnnotation, extractColumnAnnotations(fields));
-      return parseRows(sheet, spec, fields, clazz.getConstructor());
-    } catch (NoSuchMethodException e) {
-      throw new RuntimeException(
-          String.format(
-              "Class %s must have a public non-args constructor",
-              clazz.getName()));
-    }
+    return parseRows(sheet, staticMapping(clazz));
   }
 
   /**
@@ -60,11 +212,188 @@ class ParseloAnnotationParser {
    * cannot be parsed from the sheet
    */
   <T> List<T> parseDynamic(HSSFSheet sheet, Class<T> clazz, ParseloSpec spec) {
+    return parseRows(sheet, dynamicMapping(clazz, spec));
+  }
+
+  /**
+   * Parse the rows of the area of a row mapping, handing the parsed objects over to the sink in batches.
+   *
+   * @param sheet the sheet to map the rows of
+   * @param mapping the mapping of the rows
+   * @param batchSize the maximum number of objects in a batch
+   * @param sink the sink of the batches
+   * @param <T> the type of the mapped objects
+   * @return the number of parsed objects
+   * @throws InvalidConfigurationException if the rows of the spec are out of the sheet bounds
+   */
+  <T> int parseBatches(HSSFSheet sheet, RowMapping<T> mapping, int batchSize, BatchSink<T> sink) {
+    Batcher<T> batcher = new Batcher<>(batchSize, sink);
+    ParseloSpec spec = mapping.getSpec();
+    validateBounds(spec, sheet.getSheetName(), sheet.getFirstRowNum(), sheet.getLastRowNum());
+
+    if (mapRows(sheet, forParse(mapping), batcher::add)) {
+      batcher.flush();
+    }
+    return batcher.count();
+  }
+
+  /**
+   * Create a stream mapping each row of the area of a row mapping only when it is pulled. The bounds of the area are
+   * validated straight away. The stream is sized, unless empty rows are skipped.
+   *
+   * @param sheet the sheet to map the rows of
+   * @param mapping the mapping of the rows
+   * @param <T> the type of the mapped objects
+   * @return the stream of the mapped rows
+   * @throws InvalidConfigurationException if the rows of the spec are out of the sheet bounds
+   */
+  <T> Stream<T> stream(HSSFSheet sheet, RowMapping<T> mapping) {
+    ParseloSpec spec = mapping.getSpec();
+    validateBounds(spec, sheet.getSheetName(), sheet.getFirstRowNum(), sheet.getLastRowNum());
+
+    int rowStart = spec.getRowStart() - 1;
+    int columnStart = spec.getColumnStartIndex() - 1;
+    RowMapping<T> streamMapping = interning(mapping, parseStrings());
+    IndexSpliterator<T> rows = new IndexSpliterator<>(
+        rowOffset -> mapRowOrSkip(sheet, streamMapping, rowStart + rowOffset, columnStart),
+        0,
+        spec.rows());
+    Stream<T> stream = StreamSupport.stream(rows, false);
+    return skipEmptyRows ? stream.filter(Objects::nonNull) : stream;
+  }
+
+  /**
+   * Parse the rows of the area of a row mapping into a table holding the values column by column.
+   *
+   * @param sheet the sheet to parse the rows of
+   * @param mapping the mapping of the rows
+   * @param <T> the type of the objects of the rows
+   * @return the table of the parsed rows
+   * @throws InvalidConfigurationException if the rows of the spec are out of the sheet bounds
+   */
+  <T> ParseloTable<T> parseTable(HSSFSheet sheet, RowMapping<T> mapping) {
+    ParseloSpec spec = mapping.getSpec();
+    validateBounds(spec, sheet.getSheetName(), sheet.getFirstRowNum(), sheet.getLastRowNum());
+
+    int rowCount = spec.rows();
+    int columnStart = spec.getColumnStartIndex() - 1;
+    ParseloTable.Builder<T> table = new ParseloTable.Builder<>(
+        forParse(mapping),
+        skipEmptyRows ? Math.min(rowCount, sheet.getPhysicalNumberOfRows()) : rowCount);
+    walkRows(sheet, mapping, (row, rowIndex) -> {
+      table.addRow(row, rowIndex, columnStart);
+      return true;
+    });
+    return table.build();
+  }
+
+  /**
+   * Prepare the row mapping of a class whose parsing area is defined by its {@link ConfigurationType#STATIC}
+   * annotations.
+   *
+   * @param clazz the class of type T
+   * @param <T> the type of the mapped objects
+   * @return the row mapping for the class
+   * @throws InvalidConfigurationException if no ParseloRow/ParseloColumn annotations are found
+   * @throws IllegalArgumentException if the type of an annotated field has no converter
+   */
+  @SuppressWarnings("unchecked")
+  <T> RowMapping<T> staticMapping(Class<T> clazz) {
+    return (RowMapping<T>) converters.staticMappings.get(clazz);
+  }
+
+  /**
+   * Prepare the row mapping of a {@link ConfigurationType#DYNAMIC} class for the area defined by the spec.
+   *
+   * @param clazz the class of type T
+   * @param spec the area to map the class from
+   * @param <T> the type of the mapped objects
+   * @return the row mapping for the class
+   * @throws InvalidConfigurationException if no ParseloRow/ParseloPosition annotations are found or the number of
+   * annotated fields does not match the number of columns in the spec
+   * @throws IllegalArgumentException if the type of an annotated field has no converter
+   */
+  @SuppressWarnings("unchecked")
+  <T> RowMapping<T> dynamicMapping(Class<T> clazz, ParseloSpec spec) {
+    RowMapping<T> mapping = (RowMapping<T>) converters.dynamicMappings.get(clazz);
+    validateFieldsAndSpec(mapping.fieldCount(), spec);
+    return mapping.withSpec(spec);
+  }
+
+  /**
+   * Check that the rows of the spec are within the rows present in a sheet.
+   *
+   * @param spec the spec to check
+   * @param sheetName the name of the sheet
+   * @param firstRow the zero-based index of the first row of the sheet
+   * @param lastRow the zero-based index of the last row of the sheet
+   * @throws InvalidConfigurationException if the spec rows are out of the sheet bounds
+   */
+  static void validateBounds(ParseloSpec spec, String sheetName, int firstRow, int lastRow) {
+    if (spec.getRowStart() - 1 < firstRow || spec.getRowEnd() - 1 > lastRow) {
+      throw new InvalidConfigurationException(String.format(
+          "Spec rows must be within the bounds of the sheet '%s'. Accepted bounds (one-based index): [%d, %d]",
+          sheetName,
+          firstRow + 1,
+          lastRow + 1));
+    }
+  }
+
+  //--------------------------------------------------------------------
+  // A dictionary of its own for every parse, so the strings are only retained as long as the parsed values are
+  private StringDictionary parseStrings() {
+    return internStrings ? new StringDictionary() : null;
+  }
+
+  private static <T> RowMapping<T> interning(RowMapping<T> mapping, StringDictionary strings) {
+    return strings == null ? mapping : mapping.withStrings(strings);
+  }
+
+  private static <T> RowMapping<T> compileStaticMapping(Class<T> clazz) {
+    Optional<ParseloMapper<T>> generated = generatedMapper(clazz, ConfigurationType.STATIC);
+    if (generated.isPresent()) {
+      ParseloMapper<T> mapper = generated.get();
+      return new RowMapping<>(
+          mapper.getSpec(),
+          mapper.getFieldNames(),
+          mapper.getFieldTypes(),
+          ObjectBinder.generated(mapper));
+    }
+    ParseloRow rowAnnotation = extractClassAnnotation(clazz, ParseloRow.class);
+    List<Field> fields = extractSortedColumnAnnotatedFields(clazz);
+    ParseloSpec spec = createSpec(rowAnnotation, extractColumnAnnotations(fields));
+    return new RowMapping<>(spec, nonArgsConstructor(clazz), fields);
+  }
+
+  // The spec of a dynamic mapping is only known when parsing, see RowMapping#withSpec
+  private static <T> RowMapping<T> compileDynamicMapping(Class<T> clazz) {
+    Optional<ParseloMapper<T>> generated = generatedMapper(clazz, ConfigurationType.DYNAMIC);
+    if (generated.isPresent()) {
+      ParseloMapper<T> mapper = generated.get();
+      return new RowMapping<>(null, mapper.getFieldNames(), mapper.getFieldTypes(), ObjectBinder.generated(mapper));
+    }
+    validateAnnotation(clazz);
+    List<Field> fields = extractSortedPositionAnnotatedFields(clazz);
+    return new RowMapping<>(null, nonArgsConstructor(clazz), fields);
+  }
+
+  // The mapper generated by the ParseloMapperProcessor, listed as a service by the class loader of the class and only
+  // used for the configuration type it was generated for. It is looked up once per class, as the mappings are cached.
+  @SuppressWarnings("unchecked")
+  private static <T> Optional<ParseloMapper<T>> generatedMapper(Class<T> clazz, ConfigurationType configurationType) {
+    for (ParseloMapper<?> mapper : ServiceLoader.load(ParseloMapper.class, clazz.getClassLoader())) {
+      if (mapper.getMappedType() == clazz) {
+        return mapper.getConfigurationType() == configurationType
+            ? Optional.of((ParseloMapper<T>) mapper)
+            : Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static <T> Constructor<T> nonArgsConstructor(Class<T> clazz) {
     try {
-      validateAnnotation(clazz);
-      List<Field> fields = extractSortedPositionAnnotatedFields(clazz);
-      validateFieldsAndSpec(fields, spec);
-      return parseRows(sheet, spec, fields, clazz.getConstructor());
+      return clazz.getConstructor();
     } catch (NoSuchMethodException e) {
       throw new RuntimeException(
           String.format(
@@ -73,81 +402,126 @@ class ParseloAnnotationParser {
     }
   }
 
-  private void validateFieldsAndSpec(List<Field> fields, ParseloSpec spec) {
-    if (fields.size() != spec.columns()) {
+  private void validateFieldsAndSpec(int fieldCount, ParseloSpec spec) {
+    if (fieldCount != spec.columns()) {
       throw new InvalidConfigurationException(String.format(
           "Expecting nr. of annotated fields=%d to equal nr. columns from spec=%d",
-          fields.size(),
+          fieldCount,
           spec.columns()));
     }
   }
 
-  // The fields must be sorted in ascending order of their annotations's parameters (so by column name for
-  // ParseloColumns or by position for the ParseloPosition)
-  private <T> List<T> parseRows(
-      HSSFSheet sheet,
-      ParseloSpec spec,
-      List<Field> fields,
-      Constructor<T> clazzConstructor) {
+  private <T> List<T> parseRows(HSSFSheet sheet, RowMapping<T> mapping) {
+    ParseloSpec spec = mapping.getSpec();
+    validateBounds(spec, sheet.getSheetName(), sheet.getFirstRowNum(), sheet.getLastRowNum());
 
-    validateBounds(spec, sheet);
+    int rowStart = spec.getRowStart() - 1;
+    int rowCount = spec.rows();
+    int columnStart = spec.getColumnStartIndex() - 1;
 
-    try {
-      int rowStart = spec.getRowStart() - 1;
-      int rowCount = spec.rows();
-      int columnStart = spec.getColumnStartIndex() - 1;
-      int columnCount = spec.columns();
-      clazzConstructor.setAccessible(true);
-
-
-      List<T> rows = Lists.newLinkedList();
-      for (int rowOffset = 0; rowOffset < rowCount; rowOffset++) {
-        T parsedObj = clazzConstructor.newInstance();
-
-        for (int columnOffset = 0; columnOffset < columnCount; columnOffset++) {
-          HSSFCell cell = sheet.getRow(rowStart + rowOffset).getCell(columnStart + columnOffset);
-          Field targetField = fields.get(columnOffset);
-          Object parsed = convertCell(cell, targetField.getType());
-          targetField.setAccessible(true);
-          targetField.set(parsedObj, parsed);
-        }
+    if (executor != null && rowCount >= 2 * MIN_CHUNK_ROWS) {
+      return parseRowsInParallel(sheet, mapping, rowStart, rowCount, columnStart);
+    }
 
-        rows.add(parsedObj);
+    List<T> rows = new ArrayList<>(skipEmptyRows ? Math.min(rowCount, sheet.getPhysicalNumberOfRows()) : rowCount);
+    mapRows(sheet, forParse(mapping), rows::add);
+    return rows;
+  }
+
+  // Maps the rows of the area in order, walking only the rows present in the sheet. Returns false if stopped.
+  private <T> boolean mapRows(HSSFSheet sheet, RowMapping<T> mapping, Predicate<T> consumer) {
+    int columnStart = mapping.getSpec().getColumnStartIndex() - 1;
+    return walkRows(sheet, mapping, (row, rowIndex) -> consumer.test(mapping.map(row, rowIndex, columnStart)));
+  }
+
+  // Visits the rows of the area to parse in order, null for the missing rows unless empty rows are skipped
+  private boolean walkRows(HSSFSheet sheet, RowMapping<?> mapping, RowStreamer.RowConsumer visitor) {
+    ParseloSpec spec = mapping.getSpec();
+    int rowStart = spec.getRowStart() - 1;
+    int rowEnd = spec.getRowEnd() - 1;
+    int columnStart = spec.getColumnStartIndex() - 1;
+    int[] nextRow = {rowStart};
+
+    boolean completed = SheetRows.forEachRow(sheet, rowStart, rowEnd, (row, rowIndex) -> {
+      if (!visitMissingRows(nextRow[0], rowIndex, visitor)) {
+        return false;
+      }
+      nextRow[0] = rowIndex + 1;
+      return skipEmptyRows && SheetRows.isEmpty(row, columnStart, mapping.fieldCount())
+          || visitor.accept(row, rowIndex);
+    });
+    return completed && visitMissingRows(nextRow[0], rowEnd + 1, visitor);
+  }
+
+  private boolean visitMissingRows(int fromRow, int toRow, RowStreamer.RowConsumer visitor) {
+    if (!skipEmptyRows) {
+      for (int rowIndex = fromRow; rowIndex < toRow; rowIndex++) {
+        if (!visitor.accept(null, rowIndex)) {
+          return false;
+        }
       }
-      return rows;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
     }
+    return true;
   }
 
-  private void validateBounds(ParseloSpec spec, HSSFSheet sheet) {
-    if (spec.getRowStart() - 1 < sheet.getFirstRowNum() || spec.getRowEnd() - 1 > sheet.getLastRowNum()) {
-      throw new InvalidConfigurationException(String.format(
-          "Spec rows must be within the bounds of the sheet '%s'. Accepted bounds (one-based index): [%d, %d]",
-          sheet.getSheetName(),
-          sheet.getFirstRowNum() + 1,
-          sheet.getLastRowNum() + 1));
+  // The mapped row, or null if it is empty and empty rows are skipped
+  private <T> T mapRowOrSkip(HSSFSheet sheet, RowMapping<T> mapping, int rowIndex, int columnStart) {
+    HSSFRow row = sheet.getRow(rowIndex);
+    if (skipEmptyRows && SheetRows.isEmpty(row, columnStart, mapping.fieldCount())) {
+      return null;
     }
+    return mapping.map(row, rowIndex, columnStart);
   }
 
-  private Object convertCell(HSSFCell cell, Class<?> conversionType) {
-    try {
-      if (cell == null) {
-        return null;
-      } else {
-        return CellConverters.getConverter(conversionType).convert(cell);
+  // Each chunk maps its own slice of the rows, so the result is in row order without any concatenation
+  @SuppressWarnings("unchecked")
+  private <T> List<T> parseRowsInParallel(
+      HSSFSheet sheet,
+      RowMapping<T> mapping,
+      int rowStart,
+      int rowCount,
+      int columnStart) {
+
+    int parallelism = executor instanceof ForkJoinPool
+        ? ((ForkJoinPool) executor).getParallelism()
+        : Runtime.getRuntime().availableProcessors();
+    int chunks = Math.max(1, Math.min(rowCount / MIN_CHUNK_ROWS, parallelism * CHUNKS_PER_THREAD));
+    int chunkSize = (rowCount + chunks - 1) / chunks;
+
+    Object[] rows = new Object[rowCount];
+    // the chunks share the dictionary of the parse, which is safe for concurrent use
+    StringDictionary strings = parseStrings();
+    List<CompletableFuture<Void>> tasks = new ArrayList<>(chunks);
+    for (int chunkStart = 0; chunkStart < rowCount; chunkStart += chunkSize) {
+      int from = chunkStart;
+      int to = Math.min(chunkStart + chunkSize, rowCount);
+      tasks.add(CompletableFuture.runAsync(() -> {
+        RowMapping<T> chunkMapping = interning(mapping.forParse(), strings);
+        for (int rowOffset = from; rowOffset < to; rowOffset++) {
+          rows[rowOffset] = mapRowOrSkip(sheet, chunkMapping, rowStart + rowOffset, columnStart);
+        }
+      }, executor));
+    }
+
+    // wait for all the chunks, then report the failure of the first row like a sequential parse would
+    CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).exceptionally(e -> null).join();
+    for (CompletableFuture<Void> task : tasks) {
+      try {
+        task.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    }
+    List<T> parsed = new ArrayList<>(rowCount);
+    for (Object row : rows) {
+      if (row != null) {
+        parsed.add((T) row);
       }
-    } catch (Exception e) {
-      throw new RuntimeException(String.format(
-          "Exception encountered for cell at row=%d (zero-based index) and column=%d (zero-based index) " +
-              "when trying to convert to type=%s",
-          cell.getRowIndex(),
-          cell.getColumnIndex(),
-          conversionType.getName()));
     }
+    return parsed;
   }
 
-  private List<Field> extractSortedPositionAnnotatedFields(Class<?> clazz) {
+  private static List<Field> extractSortedPositionAnnotatedFields(Class<?> clazz) {
     ImmutableList<Field> fields = Arrays.stream(clazz.getDeclaredFields())
         .filter(field -> field.getAnnotation(ParseloPosition.class) != null)
         .sorted(Comparator.comparing(field -> field.getAnnotation(ParseloPosition.class).position()))
@@ -163,7 +537,7 @@ class ParseloAnnotationParser {
     return fields;
   }
 
-  private ParseloSpec createSpec(ParseloRow rowAnnotation, List<ParseloColumn> columnAnnotations) {
+  private static ParseloSpec createSpec(ParseloRow rowAnnotation, List<ParseloColumn> columnAnnotations) {
     ImmutableList<String> columnNames = columnAnnotations.stream()
         .map(ParseloColumn::name)
         .sorted()
@@ -177,13 +551,13 @@ class ParseloAnnotationParser {
         .build();
   }
 
-  private ImmutableList<ParseloColumn> extractColumnAnnotations(List<Field> fields) {
+  private static ImmutableList<ParseloColumn> extractColumnAnnotations(List<Field> fields) {
     return fields.stream()
         .map(field -> field.getAnnotation(ParseloColumn.class))
         .collect(ImmutableList.toImmutableList());
   }
 
-  private List<Field> extractSortedColumnAnnotatedFields(Class<?> clazz) {
+  private static List<Field> extractSortedColumnAnnotatedFields(Class<?> clazz) {
     ImmutableList<Field> fields = Arrays.stream(clazz.getDeclaredFields())
         .filter(field -> field.getAnnotation(ParseloColumn.class) != null)
         .sorted(Comparator.comparing(field -> field.getAnnotation(ParseloColumn.class).name()))
@@ -199,7 +573,7 @@ class ParseloAnnotationParser {
     return fields;
   }
 
-  private void validateAnnotation(Class<?> clazz) {
+  private static void validateAnnotation(Class<?> clazz) {
     if (clazz.getAnnotation(ParseloRow.class) == null) {
       throw new InvalidConfigurationException(String.format(
           "Expecting class %s to be annotated with %s",
@@ -208,7 +582,7 @@ class ParseloAnnotationParser {
     }
   }
 
-  private <T extends Annotation> T extractClassAnnotation(Class<?> clazz, Class<T> annotationClass) {
+  private static <T extends Annotation> T extractClassAnnotation(Class<?> clazz, Class<T> annotationClass) {
     return Optional.ofNullable(clazz.getAnnotation(annotationClass))
         .orElseThrow(() ->
             new InvalidConfigurationException(String.format(
@@ -216,4 +590,28 @@ class ParseloAnnotationParser {
                 clazz.getCanonicalName(),
                 annotationClass.getName())));
   }
+
+  /**
+   * The row mappings of the annotated classes with the converters of a registry, each resolved once per class from the
+   * compiled mapping and shared by all the parsers using the registry.
+   */
+  private static final class RegistryMappings {
+
+    private final ClassValue<RowMapping<?>> staticMappings;
+    private final ClassValue<RowMapping<?>> dynamicMappings;
+
+    private RegistryMappings(ConverterRegistry registry) {
+      this.staticMappings = resolving(STATIC_MAPPINGS, registry);
+      this.dynamicMappings = resolving(DYNAMIC_MAPPINGS, registry);
+    }
+
+    private static ClassValue<RowMapping<?>> resolving(ClassValue<RowMapping<?>> compiled, ConverterRegistry registry) {
+      return new ClassValue<RowMapping<?>>() {
+        @Override
+        protected RowMapping<?> computeValue(Class<?> clazz) {
+          return compiled.get(clazz).withConverters(registry);
+        }
+      };
+    }
+  }
 }
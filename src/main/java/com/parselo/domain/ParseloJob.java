@@ -0,0 +1,236 @@
+package com.parselo.domain;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * A parse of a single sheet, to be run together with other jobs through {@link Parselo#parseAll}.
+ * <p>
+ * Jobs are compared by identity, so the same job instance is the key of its result in {@link ParseloResults}.
+ *
+ * @param <R> the type of the result of the job
+ */
+public final class ParseloJob<R> {
+
+  private final String sheetName;
+  private final String description;
+  private final Function<Parselo, R> parse;
+
+  private ParseloJob(String sheetName, String description, Function<Parselo, R> parse) {
+    this.sheetName = sheetName;
+    this.description = description;
+    this.parse = parse;
+  }
+
+  /**
+   * Create a job parsing the objects of a class with a {@link ConfigurationType#STATIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param <T> the type of objects to parse
+   * @return the job
+   * @see Parselo#parse(String, Class)
+   */
+  public static <T> ParseloJob<List<T>> parse(String sheetName, Class<T> clazz) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(clazz, "clazz");
+    return new ParseloJob<>(sheetName, clazz.getSimpleName(), parselo -> parselo.parse(sheetName, clazz));
+  }
+
+  /**
+   * Create a job parsing the objects of a class from the area defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param <T> the type of objects to parse
+   * @return the job
+   * @see Parselo#parse(String, Class, ParseloSpec)
+   */
+  public static <T> ParseloJob<List<T>> parse(String sheetName, Class<T> clazz, ParseloSpec spec) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    return new ParseloJob<>(sheetName, clazz.getSimpleName(), parselo -> parselo.parse(sheetName, clazz, spec));
+  }
+
+  /**
+   * Create a job parsing an array defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an object of type T
+   * @param spec the specification for the array area
+   * @param <T> the type of the elements in the list
+   * @return the job
+   * @see Parselo#parseList(String, CellConverter, ParseloSpec)
+   */
+  public static <T> ParseloJob<List<T>> parseList(String sheetName, CellConverter<T> cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(sheetName, "list", parselo -> parselo.parseList(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing an array of doubles defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to a double
+   * @param spec the specification for the array area
+   * @return the job
+   * @see Parselo#parseDoubles(String, DoubleCellConverter, ParseloSpec)
+   */
+  public static ParseloJob<double[]> parseDoubles(
+      String sheetName,
+      DoubleCellConverter cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(sheetName, "double array", parselo -> parselo.parseDoubles(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing an array of ints defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to a int
+   * @param spec the specification for the array area
+   * @return the job
+   * @see Parselo#parseInts(String, IntCellConverter, ParseloSpec)
+   */
+  public static ParseloJob<int[]> parseInts(String sheetName, IntCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(sheetName, "int array", parselo -> parselo.parseInts(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing an array of longs defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to a long
+   * @param spec the specification for the array area
+   * @return the job
+   * @see Parselo#parseLongs(String, LongCellConverter, ParseloSpec)
+   */
+  public static ParseloJob<long[]> parseLongs(String sheetName, LongCellConverter cellConverter, ParseloSpec spec) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(sheetName, "long array", parselo -> parselo.parseLongs(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing a matrix defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an object of type T
+   * @param spec the matrix specification
+   * @param <T> the type of the elements in the matrix
+   * @return the job
+   * @see Parselo#parseMatrix(String, CellConverter, ParseloSpec)
+   */
+  public static <T> ParseloJob<ParseloMatrix<T>> parseMatrix(
+      String sheetName,
+      CellConverter<T> cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(sheetName, "matrix", parselo -> parselo.parseMatrix(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing a sparse matrix defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an object of type T
+   * @param spec the matrix specification
+   * @param <T> the type of the elements in the matrix
+   * @return the job
+   * @see Parselo#parseSparseMatrix(String, CellConverter, ParseloSpec)
+   */
+  public static <T> ParseloJob<ParseloMatrix<T>> parseSparseMatrix(
+      String sheetName,
+      CellConverter<T> cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(
+        sheetName, "sparse matrix", parselo -> parselo.parseSparseMatrix(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing a matrix of doubles defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to a double
+   * @param spec the matrix specification
+   * @return the job
+   * @see Parselo#parseDoubleMatrix(String, DoubleCellConverter, ParseloSpec)
+   */
+  public static ParseloJob<DoubleMatrix> parseDoubleMatrix(
+      String sheetName,
+      DoubleCellConverter cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(
+        sheetName, "double matrix", parselo -> parselo.parseDoubleMatrix(sheetName, cellConverter, spec));
+  }
+
+  /**
+   * Create a job parsing a matrix of ints defined by the spec.
+   *
+   * @param sheetName the sheet name to parse
+   * @param cellConverter the function to convert a cell to an int
+   * @param spec the matrix specification
+   * @return the job
+   * @see Parselo#parseIntMatrix(String, IntCellConverter, ParseloSpec)
+   */
+  public static ParseloJob<IntMatrix> parseIntMatrix(
+      String sheetName,
+      IntCellConverter cellConverter,
+      ParseloSpec spec) {
+
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(cellConverter, "cellConverter");
+    JodaBeanUtils.notNull(spec, "spec");
+    return new ParseloJob<>(sheetName, "int matrix", parselo -> parselo.parseIntMatrix(sheetName, cellConverter, spec));
+  }
+
+  //--------------------------------------------------------------------
+  /**
+   * Provide the name of the sheet parsed by the job.
+   *
+   * @return the sheet name
+   */
+  public String getSheetName() {
+    return sheetName;
+  }
+
+  /**
+   * Run the job.
+   *
+   * @param parselo the parselo over the workbook to parse
+   * @return the result of the job
+   */
+  R run(Parselo parselo) {
+    return parse.apply(parselo);
+  }
+
+  @Override
+  public String toString() {
+    return "ParseloJob{" + description + " from sheet '" + sheetName + "'}";
+  }
+}
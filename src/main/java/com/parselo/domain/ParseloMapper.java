@@ -0,0 +1,122 @@
+package com.parselo.domain;
+
+import java.util.List;
+
+/**
+ * A row mapper generated at compile time for a Parselo annotated class by the
+ * {@code com.parselo.processor.ParseloMapperProcessor}.
+ * <p>
+ * The mapper of a class {@code Foo} is named {@code Foo_ParseloMapper}, lives in the package of {@code Foo} and is
+ * listed as a {@link java.util.ServiceLoader service}. When it is present Parselo creates and populates the parsed
+ * objects through plain field assignments and setter calls, without any reflection. Mappers are only generated for
+ * top-level classes with a public non-args constructor whose annotated fields are neither static nor final, and whose
+ * private annotated fields have a non-private setter. Any other class is parsed reflectively.
+ *
+ * @param <T> the type of the mapped objects
+ */
+public interface ParseloMapper<T> {
+
+  /**
+   * The suffix added to the name of an annotated class to name its mapper.
+   */
+  String SUFFIX = "_ParseloMapper";
+
+  /**
+   * Provide the class the mapper was generated for.
+   *
+   * @return the mapped class
+   */
+  Class<T> getMappedType();
+
+  /**
+   * Provide the type of configuration the mapper was generated for.
+   *
+   * @return the configuration type of the annotated class
+   */
+  ConfigurationType getConfigurationType();
+
+  /**
+   * Provide the area defined by the annotations of a {@link ConfigurationType#STATIC} class.
+   *
+   * @return the spec of the parsed area, null for a {@link ConfigurationType#DYNAMIC} class
+   */
+  ParseloSpec getSpec();
+
+  /**
+   * Provide the types of the annotated fields, in the order of the columns of the spec.
+   *
+   * @return the field types
+   */
+  List<Class<?>> getFieldTypes();
+
+  /**
+   * Provide the names of the annotated fields, in the order of the columns of the spec.
+   *
+   * @return the field names
+   */
+  List<String> getFieldNames();
+
+  /**
+   * Create a new empty instance of the class.
+   *
+   * @return the new instance
+   */
+  T newInstance();
+
+  /**
+   * Assign a value to a field of an instance.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign, possibly null
+   */
+  void set(T target, int field, Object value);
+
+  /**
+   * Assign a value to a primitive {@code int} field of an instance. Generated mappers override this method to
+   * assign the value without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  default void setInt(T target, int field, int value) {
+    set(target, field, value);
+  }
+
+  /**
+   * Assign a value to a primitive {@code long} field of an instance. Generated mappers override this method to
+   * assign the value without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  default void setLong(T target, int field, long value) {
+    set(target, field, value);
+  }
+
+  /**
+   * Assign a value to a primitive {@code double} field of an instance. Generated mappers override this method to
+   * assign the value without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  default void setDouble(T target, int field, double value) {
+    set(target, field, value);
+  }
+
+  /**
+   * Assign a value to a primitive {@code boolean} field of an instance. Generated mappers override this method to
+   * assign the value without boxing it.
+   *
+   * @param target the instance to assign the field of
+   * @param field the index of the field, in the order of the columns of the spec
+   * @param value the value to assign
+   */
+  default void setBoolean(T target, int field, boolean value) {
+    set(target, field, value);
+  }
+}
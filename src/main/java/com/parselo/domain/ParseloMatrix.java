@@ -1,91 +1,261 @@
 package com.parselo.domain;
 
-import org.joda.beans.ImmutableBean;
-import org.joda.beans.MetaProperty;
-import org.joda.beans.gen.BeanDefinition;
-import org.joda.beans.gen.PropertyDefinition;
-
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
-
-import java.util.LinkedList;
+import java.util.AbstractList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.function.BiFunction;
 
+import org.joda.beans.ImmutableBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.TypedMetaBean;
+import org.joda.beans.gen.PropertyDefinition;
 import org.joda.beans.impl.direct.DirectFieldsBeanBuilder;
 import org.joda.beans.impl.direct.MinimalMetaBean;
 
+import com.google.common.collect.ImmutableList;
+
 /**
  * Represents the result of parsing a matrix area using Parselo.
+ * <p>
+ * The values are usually held row after row in a single array, so any element is reached in constant time. Matrices
+ * over mostly empty areas can instead be sparse, holding only the cells present in the sheet and a single default
+ * value for all the others. Lazy matrices convert each cell from the sheet only the first time it is read, and convert
+ * the rest of the area when the matrix is compared, hashed or printed as a whole.
+ * <p>
+ * Either way, the rows are exposed as read-only views over the values rather than as copies. The bean support is
+ * written by hand, as the {@code rows} property is a view over the values rather than a stored list.
  *
  * @param <T> the type of the value stored in the matrix.
  */
-@BeanDefinition(style = "minimal", metaScope = "private", builderScope = "package")
 public final class ParseloMatrix<T> implements ImmutableBean {
 
-  @PropertyDefinition(validate = "notNull")
+  private final MatrixCells cells;
+  private final int rowCount;
+  private final int columnCount;
+  @PropertyDefinition(get = "manual")
   private final List<List<T>> rows;
 
   public static <T> ParseloMatrix<T> of(int rows, int columns, BiFunction<Integer, Integer, T> valueProvider) {
-    List<List<T>> rowList = Lists.newLinkedList();
-
+    Object[] values = new Object[rows * columns];
     for (int row = 0; row < rows; row++) {
-      List<T> columnList = Lists.newLinkedList();
       for (int col = 0; col < columns; col++) {
-        columnList.add(valueProvider.apply(row, col));
+        values[row * columns + col] = valueProvider.apply(row, col);
       }
-      rowList.add(columnList);
     }
+    return wrap(values, rows, columns);
+  }
 
-    return new ParseloMatrix<>(rowList);
+  /**
+   * Wrap the values of a matrix given row after row, without copying them.
+   *
+   * @param values the values, row after row, which must not be modified afterwards
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @param <T> the type of the values
+   * @return the matrix over the values
+   */
+  static <T> ParseloMatrix<T> wrap(Object[] values, int rows, int columns) {
+    if (values.length != rows * columns) {
+      throw new IllegalArgumentException(String.format(
+          "Expected %d values for a matrix of %d rows and %d columns but found %d",
+          rows * columns,
+          rows,
+          columns,
+          values.length));
+    }
+    return new ParseloMatrix<>(new DenseMatrixCells(values, columns), rows, columns);
+  }
+
+  /**
+   * Create a matrix over the storage given.
+   *
+   * @param cells the storage of the values
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @param <T> the type of the values
+   * @return the matrix over the storage
+   */
+  static <T> ParseloMatrix<T> over(MatrixCells cells, int rows, int columns) {
+    return new ParseloMatrix<>(cells, rows, columns);
+  }
+
+  private ParseloMatrix(MatrixCells cells, int rowCount, int columnCount) {
+    this.cells = cells;
+    this.rowCount = rowCount;
+    this.columnCount = columnCount;
+    this.rows = new Rows();
   }
 
   //---------------------------------------------------------------
   public List<T> getRow(int row) {
-    validateRow(row);
     return rows.get(row);
   }
 
+  @SuppressWarnings("unchecked")
   public T getElement(int row, int column) {
     validateRow(row);
     validateColumn(column);
-    return rows.get(row).get(column);
+    return (T) cells.get(row, column);
   }
 
   public int rowCount() {
-    return rows.size();
+    return rowCount;
   }
 
   public int columnCount() {
-    return rows.get(0).size();
+    return columnCount;
+  }
+
+  /**
+   * Check whether the matrix only holds the cells present in the sheet, sharing a single default value for the others.
+   *
+   * @return true if the matrix is sparse
+   */
+  public boolean isSparse() {
+    return cells.isSparse();
+  }
+
+  /**
+   * Provide a read-only view over the values of a column.
+   *
+   * @param column the zero-based index of the column
+   * @return the values of the column, from the first row to the last
+   */
+  public List<T> getColumn(int column) {
+    validateColumn(column);
+    return new Column(column);
+  }
+
+  /**
+   * Provide the transposed matrix, whose rows are the columns of this matrix. The transposed matrix is a view sharing
+   * the values of this matrix.
+   *
+   * @return the transposed matrix
+   */
+  public ParseloMatrix<T> transpose() {
+    return new ParseloMatrix<>(MatrixCellsView.transpose(cells), columnCount, rowCount);
+  }
+
+  /**
+   * Provide a region of the matrix. The region is a view sharing the values of this matrix.
+   *
+   * @param firstRow the zero-based index of the first row of the region, inclusive
+   * @param lastRow the zero-based index of the last row of the region, exclusive
+   * @param firstColumn the zero-based index of the first column of the region, inclusive
+   * @param lastColumn the zero-based index of the last column of the region, exclusive
+   * @return the matrix of the region
+   * @throws IndexOutOfBoundsException if the region is not inside the matrix
+   */
+  public ParseloMatrix<T> subMatrix(int firstRow, int lastRow, int firstColumn, int lastColumn) {
+    if (firstRow < 0 || lastRow > rowCount || firstRow > lastRow
+        || firstColumn < 0 || lastColumn > columnCount || firstColumn > lastColumn) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Region of rows [%d ; %d[ and columns [%d ; %d[ is outside of bounds [%d ; %d[ x [%d ; %d[",
+          firstRow,
+          lastRow,
+          firstColumn,
+          lastColumn,
+          0,
+          rowCount,
+          0,
+          columnCount));
+    }
+    return new ParseloMatrix<>(
+        MatrixCellsView.region(cells, firstRow, firstColumn),
+        lastRow - firstRow,
+        lastColumn - firstColumn);
   }
 
   //---------------------------------------------------------------
   private void validateRow(int rowIdx) {
-    if (rowIdx > rows.size() || rowIdx < 0) {
+    if (rowIdx >= rowCount || rowIdx < 0) {
       throw new IndexOutOfBoundsException(String.format(
           "Row index %d is outside of bounds [%d ; %d]]",
           rowIdx,
           0,
-          rows.size()));
+          rowCount));
     }
   }
 
   private void validateColumn(int columnIdx) {
-    if (columnIdx < 0 || columnIdx > rows.get(0).size()) {
+    if (columnIdx < 0 || columnIdx >= columnCount) {
       throw new IndexOutOfBoundsException(String.format(
-          "Row index %d is outside of bounds [%d ; %d]]",
+          "Column index %d is outside of bounds [%d ; %d]]",
           columnIdx,
           0,
-          rows.get(0).size()));
+          columnCount));
+    }
+  }
+
+  /**
+   * The rows of the matrix, each one a view over its values.
+   */
+  private final class Rows extends AbstractList<List<T>> implements RandomAccess {
+
+    @Override
+    public List<T> get(int index) {
+      validateRow(index);
+      return new Row(index);
+    }
+
+    @Override
+    public int size() {
+      return rowCount;
+    }
+  }
+
+  /**
+   * A read-only view over the values of a row.
+   */
+  private final class Row extends AbstractList<T> implements RandomAccess {
+
+    private final int row;
+
+    private Row(int row) {
+      this.row = row;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      validateColumn(index);
+      return (T) cells.get(row, index);
+    }
+
+    @Override
+    public int size() {
+      return columnCount;
+    }
+  }
+
+  /**
+   * A read-only view over the values of a column.
+   */
+  private final class Column extends AbstractList<T> implements RandomAccess {
+
+    private final int column;
+
+    private Column(int column) {
+      this.column = column;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+      validateRow(index);
+      return (T) cells.get(index, column);
+    }
+
+    @Override
+    public int size() {
+      return rowCount;
     }
   }
 
-  //------------------------- AUTOGENERATED START -------------------------
+  //------------------------- BEAN START -------------------------
   /**
    * The meta-bean for {@code ParseloMatrix}.
    */
@@ -119,12 +289,6 @@ public final class ParseloMatrix<T> implements ImmutableBean {
     return new ParseloMatrix.Builder<>();
   }
 
-  private ParseloMatrix(
-      List<List<T>> rows) {
-    JodaBeanUtils.notNull(rows, "rows");
-    this.rows = ImmutableList.copyOf(rows);
-  }
-
   @Override
   @SuppressWarnings("unchecked")
   public TypedMetaBean<ParseloMatrix<T>> metaBean() {
@@ -133,7 +297,7 @@ public final class ParseloMatrix<T> implements ImmutableBean {
 
   //-----------------------------------------------------------------------
   /**
-   * Gets the rows.
+   * Gets the rows, as read-only views over the values of the matrix.
    * @return the value of the property, not null
    */
   public List<List<T>> getRows() {
@@ -156,13 +320,18 @@ public final class ParseloMatrix<T> implements ImmutableBean {
     }
     if (obj != null && obj.getClass() == this.getClass()) {
       ParseloMatrix<?> other = (ParseloMatrix<?>) obj;
-      return JodaBeanUtils.equal(rows, other.rows);
+      cells.loadAll();
+      other.cells.loadAll();
+      return rowCount == other.rowCount
+          && columnCount == other.columnCount
+          && rows.equals(other.rows);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
+    cells.loadAll();
     int hash = getClass().hashCode();
     hash = hash * 31 + JodaBeanUtils.hashCode(rows);
     return hash;
@@ -170,6 +339,7 @@ public final class ParseloMatrix<T> implements ImmutableBean {
 
   @Override
   public String toString() {
+    cells.loadAll();
     StringBuilder buf = new StringBuilder(64);
     buf.append("ParseloMatrix{");
     buf.append("rows").append('=').append(JodaBeanUtils.toString(rows));
@@ -197,7 +367,8 @@ public final class ParseloMatrix<T> implements ImmutableBean {
      * @param beanToCopy  the bean to copy from, not null
      */
     private Builder(ParseloMatrix<T> beanToCopy) {
-      this.rows = ImmutableList.copyOf(beanToCopy.getRows());
+      beanToCopy.cells.loadAll();
+      this.rows = beanToCopy.getRows();
     }
 
     //-----------------------------------------------------------------------
@@ -230,10 +401,26 @@ public final class ParseloMatrix<T> implements ImmutableBean {
       return this;
     }
 
+    /**
+     * Builds the matrix, copying the rows row after row in the values of the matrix.
+     * @return the matrix, not null
+     * @throws IllegalArgumentException if the rows have different sizes
+     */
     @Override
     public ParseloMatrix<T> build() {
-      return new ParseloMatrix<>(
-          rows);
+      int columns = rows.isEmpty() ? 0 : rows.get(0).size();
+      Object[] values = new Object[rows.size() * columns];
+      int index = 0;
+      for (List<T> row : rows) {
+        if (row.size() != columns) {
+          throw new IllegalArgumentException(String.format(
+              "Expected all rows to have %d columns but found a row with %d", columns, row.size()));
+        }
+        for (T value : row) {
+          values[index++] = value;
+        }
+      }
+      return wrap(values, rows.size(), columns);
     }
 
     //-----------------------------------------------------------------------
@@ -271,5 +458,5 @@ public final class ParseloMatrix<T> implements ImmutableBean {
 
   }
 
-  //-------------------------- AUTOGENERATED END --------------------------
+  //-------------------------- BEAN END --------------------------
 }
@@ -0,0 +1,45 @@
+package com.parselo.domain;
+
+import java.util.Map;
+
+import org.joda.beans.JodaBeanUtils;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * The results of the jobs run by {@link Parselo#parseAll}, keyed by job.
+ */
+public final class ParseloResults {
+
+  private final Map<ParseloJob<?>, Object> results;
+
+  ParseloResults(Map<ParseloJob<?>, Object> results) {
+    this.results = ImmutableMap.copyOf(results);
+  }
+
+  /**
+   * Provide the result of a job.
+   *
+   * @param job the job
+   * @param <R> the type of the result of the job
+   * @return the result of the job
+   * @throws IllegalArgumentException if the job was not run with the others
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R get(ParseloJob<R> job) {
+    JodaBeanUtils.notNull(job, "job");
+    if (!results.containsKey(job)) {
+      throw new IllegalArgumentException("No result found for job: " + job);
+    }
+    return (R) results.get(job);
+  }
+
+  /**
+   * Provide the number of jobs run.
+   *
+   * @return the number of results
+   */
+  public int size() {
+    return results.size();
+  }
+}
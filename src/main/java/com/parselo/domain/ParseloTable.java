@@ -0,0 +1,303 @@
+package com.parselo.domain;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+
+/**
+ * Represents the rows of a Parselo annotated class parsed column by column.
+ * <p>
+ * Every annotated field is held as a column of its own: a primitive array for numbers and booleans, a dictionary of
+ * distinct values for strings and an epoch day array for dates. Column-wise scans and aggregates read the columns
+ * directly, and an object of the annotated class is only created when a row is asked for.
+ * <p>
+ * Columns are addressed by the index of their field in the columns of the spec, which is the
+ * {@link com.parselo.annotations.ParseloPosition} of the field for a {@link ConfigurationType#DYNAMIC} class. Cells
+ * missing from the sheet are not present: they are skipped by the scans and read as null.
+ *
+ * @param <T> the type of the rows
+ */
+public final class ParseloTable<T> {
+
+  private final ObjectBinder<T> binder;
+  private final TableColumn[] columns;
+  private final int rowCount;
+
+  private ParseloTable(ObjectBinder<T> binder, TableColumn[] columns, int rowCount) {
+    this.binder = binder;
+    this.columns = columns;
+    this.rowCount = rowCount;
+  }
+
+  //---------------------------------------------------------------
+  public int rowCount() {
+    return rowCount;
+  }
+
+  public int columnCount() {
+    return columns.length;
+  }
+
+  /**
+   * Provide the type of the field of a column.
+   *
+   * @param column the zero-based index of the column
+   * @return the type of the field
+   */
+  public Class<?> getColumnType(int column) {
+    return column(column).getFieldType();
+  }
+
+  /**
+   * Create the object of a row.
+   *
+   * @param row the zero-based index of the row
+   * @return a new object populated from the columns
+   */
+  public T getRow(int row) {
+    validateRow(row);
+    T target = binder.newInstance();
+    for (int column = 0; column < columns.length; column++) {
+      columns[column].bind(binder, target, column, row);
+    }
+    return target;
+  }
+
+  /**
+   * Provide the rows as a list creating the object of a row each time it is read.
+   *
+   * @return the read-only list of rows
+   */
+  public List<T> asList() {
+    return new Rows();
+  }
+
+  /**
+   * Provide the objects of the rows, each one created only when the stream pulls it.
+   *
+   * @return the stream of rows
+   */
+  public Stream<T> stream() {
+    return asList().stream();
+  }
+
+  /**
+   * Provide the value of a cell.
+   *
+   * @param row the zero-based index of the row
+   * @param column the zero-based index of the column
+   * @return the value, boxed for primitive columns, null if the cell is not present
+   */
+  public Object get(int row, int column) {
+    validateRow(row);
+    return column(column).get(row);
+  }
+
+  /**
+   * Check whether a cell has a value.
+   *
+   * @param row the zero-based index of the row
+   * @param column the zero-based index of the column
+   * @return true if the cell is present
+   */
+  public boolean isPresent(int row, int column) {
+    validateRow(row);
+    return column(column).isPresent(row);
+  }
+
+  /**
+   * Provide the values present in an int column, in row order.
+   *
+   * @param column the zero-based index of the column
+   * @return the stream of values
+   * @throws IllegalArgumentException if the column does not hold ints
+   */
+  public IntStream ints(int column) {
+    TableColumn values = column(column);
+    if (values instanceof TableColumn.IntColumn) {
+      return presentRows(values).map(((TableColumn.IntColumn) values)::getInt);
+    }
+    throw notOfType(column, "int");
+  }
+
+  /**
+   * Provide the values present in an int or long column, in row order.
+   *
+   * @param column the zero-based index of the column
+   * @return the stream of values
+   * @throws IllegalArgumentException if the column does not hold ints or longs
+   */
+  public LongStream longs(int column) {
+    TableColumn values = column(column);
+    if (values instanceof TableColumn.LongColumn) {
+      return presentRows(values).mapToLong(((TableColumn.LongColumn) values)::getLong);
+    } else if (values instanceof TableColumn.IntColumn) {
+      return ints(column).asLongStream();
+    }
+    throw notOfType(column, "long");
+  }
+
+  /**
+   * Provide the values present in a numeric column, in row order.
+   *
+   * @param column the zero-based index of the column
+   * @return the stream of values
+   * @throws IllegalArgumentException if the column does not hold ints, longs or doubles
+   */
+  public DoubleStream doubles(int column) {
+    TableColumn values = column(column);
+    if (values instanceof TableColumn.DoubleColumn) {
+      return presentRows(values).mapToDouble(((TableColumn.DoubleColumn) values)::getDouble);
+    } else if (values instanceof TableColumn.LongColumn || values instanceof TableColumn.IntColumn) {
+      return longs(column).asDoubleStream();
+    }
+    throw notOfType(column, "double");
+  }
+
+  /**
+   * Provide the values present in a column, in row order.
+   *
+   * @param column the zero-based index of the column
+   * @param type the type of the values, the boxed type for primitive columns
+   * @param <V> the type of the values
+   * @return the stream of values
+   * @throws IllegalArgumentException if the values of the column are not of the type given
+   */
+  public <V> Stream<V> values(int column, Class<V> type) {
+    TableColumn values = column(column);
+    if (!type.isAssignableFrom(TableColumn.boxed(values.getFieldType()))) {
+      throw notOfType(column, type.getName());
+    }
+    return presentRows(values).mapToObj(row -> type.cast(values.get(row)));
+  }
+
+  /**
+   * Provide the number of distinct values of a string column, each of which is held only once by the table.
+   *
+   * @param column the zero-based index of the column
+   * @return the number of distinct strings
+   * @throws IllegalArgumentException if the column does not hold strings
+   */
+  public int distinctCount(int column) {
+    TableColumn values = column(column);
+    if (values instanceof TableColumn.StringColumn) {
+      return ((TableColumn.StringColumn) values).distinctCount();
+    }
+    throw notOfType(column, String.class.getName());
+  }
+
+  @Override
+  public String toString() {
+    return "ParseloTable{rows=" + rowCount + ", columns=" + columns.length + "}";
+  }
+
+  //---------------------------------------------------------------
+  private TableColumn column(int column) {
+    if (column < 0 || column >= columns.length) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Column index %d is outside of bounds [%d ; %d]]",
+          column,
+          0,
+          columns.length));
+    }
+    return columns[column];
+  }
+
+  private void validateRow(int rowIdx) {
+    if (rowIdx >= rowCount || rowIdx < 0) {
+      throw new IndexOutOfBoundsException(String.format(
+          "Row index %d is outside of bounds [%d ; %d]]",
+          rowIdx,
+          0,
+          rowCount));
+    }
+  }
+
+  private IntStream presentRows(TableColumn column) {
+    return column.presentRows().stream();
+  }
+
+  private IllegalArgumentException notOfType(int column, String type) {
+    return new IllegalArgumentException(String.format(
+        "Column %d holds values of type %s, not %s", column, columns[column].getFieldType().getName(), type));
+  }
+
+  /**
+   * The rows of the table, created when read.
+   */
+  private final class Rows extends AbstractList<T> implements RandomAccess {
+
+    @Override
+    public T get(int index) {
+      return getRow(index);
+    }
+
+    @Override
+    public int size() {
+      return rowCount;
+    }
+  }
+
+  /**
+   * Fills the columns of a table row after row.
+   *
+   * @param <T> the type of the rows
+   */
+  static final class Builder<T> {
+
+    private final RowMapping<T> mapping;
+    private final TableColumn[] columns;
+    private int rowCount;
+
+    /**
+     * Create the builder of a table.
+     *
+     * @param mapping the mapping of the rows, bound to the spec of the table
+     * @param capacity the maximum number of rows
+     */
+    Builder(RowMapping<T> mapping, int capacity) {
+      this.mapping = mapping;
+      this.columns = new TableColumn[mapping.fieldCount()];
+      for (int column = 0; column < columns.length; column++) {
+        columns[column] = TableColumn.of(mapping.fieldType(column), mapping.converter(column), capacity);
+      }
+    }
+
+    /**
+     * Add a row to the table.
+     *
+     * @param row the row to add, null if the row is missing from the sheet
+     * @param rowIndex the zero-based index of the row in the sheet, used for error reporting
+     * @param columnOffset the zero-based index of the cell in the row holding the first column of the spec
+     */
+    void addRow(HSSFRow row, int rowIndex, int columnOffset) {
+      if (row != null) {
+        for (int column = 0; column < columns.length; column++) {
+          HSSFCell cell = row.getCell(columnOffset + column);
+          if (cell != null) {
+            try {
+              columns[column].read(rowCount, cell);
+            } catch (Exception e) {
+              throw mapping.conversionException(rowIndex, column);
+            }
+          }
+        }
+      }
+      rowCount++;
+    }
+
+    ParseloTable<T> build() {
+      for (TableColumn column : columns) {
+        column.complete();
+      }
+      return new ParseloTable<>(mapping.binder(), columns, rowCount);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.parselo.domain;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/**
+ * Binds objects through the reflective {@link Constructor#newInstance} and {@link Field#set} calls.
+ *
+ * @param <T> the type of the bound objects
+ */
+final class ReflectionObjectBinder<T> implements ObjectBinder<T> {
+
+  private final Constructor<T> constructor;
+  private final Field[] fields;
+
+  ReflectionObjectBinder(Constructor<T> constructor, Field[] fields) {
+    this.constructor = constructor;
+    this.fields = fields;
+    constructor.setAccessible(true);
+    for (Field field : fields) {
+      field.setAccessible(true);
+    }
+  }
+
+  @Override
+  public T newInstance() {
+    try {
+      return constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void set(T target, int field, Object value) {
+    try {
+      fields[field].set(target, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setInt(T target, int field, int value) {
+    try {
+      fields[field].setInt(target, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setLong(T target, int field, long value) {
+    try {
+      fields[field].setLong(target, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setDouble(T target, int field, double value) {
+    try {
+      fields[field].setDouble(target, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void setBoolean(T target, int field, boolean value) {
+    try {
+      fields[field].setBoolean(target, value);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package com.parselo.domain;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+
+/**
+ * A compiled mapping of the cells of a single excel row onto a new instance of a Parselo annotated class.
+ * <p>
+ * All the reflective work is done once when the mapping is compiled: the annotated fields are ordered by column and
+ * bound by an {@link ObjectBinder}. The converter of every field is then resolved once from a {@link ConverterRegistry}
+ * by {@link #withConverters(ConverterRegistry)}, which rejects fields of a type without converter. Classes with a
+ * generated {@link ParseloMapper} skip the reflection entirely. Mapping a row then only converts each cell and assigns
+ * it to its field. Primitive fields with a primitive converter are converted and assigned without boxing, and take the
+ * primitive default of their converter when their cell is missing.
+ * <p>
+ * The mapping is independent of where the rows come from, so it can be driven by a fully loaded {@code HSSFSheet} as
+ * well as by rows streamed from the file.
+ *
+ * @param <T> the type of the mapped objects
+ */
+final class RowMapping<T> {
+
+  private static final byte OBJECT = 0;
+  private static final byte INT = 1;
+  private static final byte LONG = 2;
+  private static final byte DOUBLE = 3;
+  private static final byte BOOLEAN = 4;
+
+  /**
+   * The area the mapped objects are parsed from, null for a dynamic mapping not yet bound to a spec.
+   */
+  private final ParseloSpec spec;
+  /**
+   * The names of the fields to populate, in the order of the columns of the spec.
+   */
+  private final String[] fieldNames;
+  /**
+   * The types of the fields to populate, in the order of the columns of the spec.
+   */
+  private final Class<?>[] fieldTypes;
+  /**
+   * Creates the mapped objects and assigns their fields.
+   */
+  private final ObjectBinder<T> binder;
+  /**
+   * The converters of the fields, null until they are resolved from a registry.
+   */
+  private final CellConverter<?>[] converters;
+  /**
+   * How each field is assigned, {@link #OBJECT} or the primitive type of a field with a primitive converter.
+   */
+  private final byte[] kinds;
+
+  RowMapping(ParseloSpec spec, Constructor<T> constructor, List<Field> fields) {
+    this(
+        spec,
+        fields.stream().map(Field::getName).collect(Collectors.toList()),
+        fields.stream().map(Field::getType).collect(Collectors.toList()),
+        ObjectBinder.methodHandles(constructor, fields.toArray(new Field[0])));
+  }
+
+  RowMapping(ParseloSpec spec, List<String> fieldNames, List<Class<?>> fieldTypes, ObjectBinder<T> binder) {
+    this.spec = spec;
+    this.fieldNames = fieldNames.toArray(new String[0]);
+    this.fieldTypes = fieldTypes.toArray(new Class<?>[0]);
+    this.binder = binder;
+    this.converters = null;
+    this.kinds = null;
+  }
+
+  private RowMapping(ParseloSpec spec, RowMapping<T> mapping, ConverterRegistry registry) {
+    this.spec = spec;
+    this.fieldNames = mapping.fieldNames;
+    this.fieldTypes = mapping.fieldTypes;
+    this.binder = mapping.binder;
+    this.converters = new CellConverter<?>[fieldTypes.length];
+    this.kinds = new byte[fieldTypes.length];
+    for (int column = 0; column < fieldTypes.length; column++) {
+      Class<?> fieldType = fieldTypes[column];
+      String fieldName = fieldNames[column];
+      this.converters[column] = registry.find(fieldType)
+          .orElseThrow(() -> new IllegalArgumentException(String.format(
+              "Parselo does not support conversion of field '%s' to type '%s', register a converter of the type",
+              fieldName,
+              fieldType.getName())));
+      this.kinds[column] = kind(fieldType, this.converters[column]);
+    }
+  }
+
+  private RowMapping(ParseloSpec spec, RowMapping<T> mapping, CellConverter<?>[] converters) {
+    this.spec = spec;
+    this.fieldNames = mapping.fieldNames;
+    this.fieldTypes = mapping.fieldTypes;
+    this.kinds = mapping.kinds;
+    this.binder = mapping.binder;
+    this.converters = converters;
+  }
+
+  /**
+   * Provide the area the mapped objects are parsed from.
+   *
+   * @return the spec of the parsed area
+   */
+  ParseloSpec getSpec() {
+    return spec;
+  }
+
+  /**
+   * Provide the number of fields populated by the mapping.
+   *
+   * @return the number of mapped fields
+   */
+  int fieldCount() {
+    return fieldTypes.length;
+  }
+
+  /**
+   * Provide the type of a field.
+   *
+   * @param column the index of the field in the columns of the spec
+   * @return the type of the field
+   */
+  Class<?> fieldType(int column) {
+    return fieldTypes[column];
+  }
+
+  /**
+   * Provide the converter of a field.
+   *
+   * @param column the index of the field in the columns of the spec
+   * @return the converter of the field, never null once the converters are resolved
+   */
+  CellConverter<?> converter(int column) {
+    return converters[column];
+  }
+
+  /**
+   * Provide the binder creating the mapped objects and assigning their fields.
+   *
+   * @return the binder of the mapped class
+   */
+  ObjectBinder<T> binder() {
+    return binder;
+  }
+
+  /**
+   * Bind the mapping to the area of a parse, sharing the compiled fields and converters.
+   *
+   * @param spec the area the mapped objects are parsed from
+   * @return the mapping for the spec
+   */
+  RowMapping<T> withSpec(ParseloSpec spec) {
+    return new RowMapping<>(spec, this, converters);
+  }
+
+  /**
+   * Provide a mapping converting the fields with the converters of the registry given, each one looked up once here.
+   *
+   * @param registry the registry of the converters
+   * @return the mapping using the registry
+   * @throws IllegalArgumentException if the registry has no converter for the type of a field
+   */
+  RowMapping<T> withConverters(ConverterRegistry registry) {
+    return new RowMapping<>(spec, this, registry);
+  }
+
+  /**
+   * Provide a mapping replacing the values of the string fields by their instance in the dictionary given.
+   *
+   * @param strings the dictionary of the parsed strings
+   * @return the interning mapping
+   */
+  RowMapping<T> withStrings(StringDictionary strings) {
+    CellConverter<?>[] interning = converters.clone();
+    for (int column = 0; column < fieldTypes.length; column++) {
+      if (fieldTypes[column] == String.class) {
+        interning[column] = strings.interning(interning[column]);
+      }
+    }
+    return new RowMapping<>(spec, this, interning);
+  }
+
+  /**
+   * Provide the mapping to use for a single parse, with the converters given by {@link CellConverter#forParse()}. The
+   * converters of primitive fields are kept, so that they keep converting without boxing.
+   *
+   * @return the mapping confined to a single parse
+   */
+  RowMapping<T> forParse() {
+    CellConverter<?>[] parseConverters = converters;
+    for (int column = 0; column < fieldTypes.length; column++) {
+      CellConverter<?> converter = converters[column];
+      CellConverter<?> parseConverter = kinds[column] == OBJECT ? converter.forParse() : converter;
+      if (parseConverter != converter) {
+        if (parseConverters == converters) {
+          parseConverters = converters.clone();
+        }
+        parseConverters[column] = parseConverter;
+      }
+    }
+    return parseConverters == converters ? this : new RowMapping<>(spec, this, parseConverters);
+  }
+
+  /**
+   * Map a row onto a new instance of the mapped class. Missing cells are mapped to null fields, or to the primitive
+   * default of the converter of a primitive field.
+   *
+   * @param row the row to map, null if the row is missing from the sheet
+   * @param rowIndex the zero-based index of the row in the sheet, used for error reporting
+   * @param columnOffset the zero-based index of the cell in the row holding the first column of the spec
+   * @return the new instance populated from the row
+   */
+  T map(HSSFRow row, int rowIndex, int columnOffset) {
+    T parsedObj = binder.newInstance();
+
+    for (int column = 0; column < fieldTypes.length; column++) {
+      HSSFCell cell = row == null ? null : row.getCell(columnOffset + column);
+      if (cell == null) {
+        setMissing(parsedObj, column);
+      } else if (kinds[column] != OBJECT) {
+        setPrimitive(parsedObj, cell, rowIndex, column);
+      } else {
+        binder.set(parsedObj, column, convertCell(cell, rowIndex, column));
+      }
+    }
+
+    return parsedObj;
+  }
+
+  /**
+   * Create the exception reporting a cell which cannot be converted to the type of its field.
+   *
+   * @param rowIndex the zero-based index of the row in the sheet
+   * @param column the index of the field in the columns of the spec
+   * @return the exception
+   */
+  RuntimeException conversionException(int rowIndex, int column) {
+    return new RuntimeException(String.format(
+        "Exception encountered for cell at row=%d (zero-based index) and column=%d (zero-based index) " +
+            "when trying to convert to type=%s",
+        rowIndex,
+        spec.getColumnStartIndex() - 1 + column,
+        fieldTypes[column].getName()));
+  }
+
+  //--------------------------------------------------------------------
+  private static byte kind(Class<?> fieldType, CellConverter<?> converter) {
+    if (fieldType == int.class && converter instanceof IntCellConverter) {
+      return INT;
+    } else if (fieldType == long.class && converter instanceof LongCellConverter) {
+      return LONG;
+    } else if (fieldType == double.class && converter instanceof DoubleCellConverter) {
+      return DOUBLE;
+    } else if (fieldType == boolean.class && converter instanceof BooleanCellConverter) {
+      return BOOLEAN;
+    }
+    return OBJECT;
+  }
+
+  private Object convertCell(HSSFCell cell, int rowIndex, int column) {
+    try {
+      return converters[column].convert(cell);
+    } catch (Exception e) {
+      throw conversionException(rowIndex, column);
+    }
+  }
+
+  // Primitive fields without a primitive converter keep the value given by the constructor
+  private void setMissing(T parsedObj, int column) {
+    CellConverter<?> converter = converters[column];
+    switch (kinds[column]) {
+      case INT:
+        binder.setInt(parsedObj, column, ((IntCellConverter) converter).getIntDefault());
+        break;
+      case LONG:
+        binder.setLong(parsedObj, column, ((LongCellConverter) converter).getLongDefault());
+        break;
+      case DOUBLE:
+        binder.setDouble(parsedObj, column, ((DoubleCellConverter) converter).getDoubleDefault());
+        break;
+      case BOOLEAN:
+        binder.setBoolean(parsedObj, column, ((BooleanCellConverter) converter).getBooleanDefault());
+        break;
+      default:
+        if (!fieldTypes[column].isPrimitive()) {
+          binder.set(parsedObj, column, null);
+        }
+    }
+  }
+
+  private void setPrimitive(T parsedObj, HSSFCell cell, int rowIndex, int column) {
+    CellConverter<?> converter = converters[column];
+    switch (kinds[column]) {
+      case INT:
+        int intValue;
+        try {
+          intValue = ((IntCellConverter) converter).convertInt(cell);
+        } catch (Exception e) {
+          throw conversionException(rowIndex, column);
+        }
+        binder.setInt(parsedObj, column, intValue);
+        break;
+      case LONG:
+        long longValue;
+        try {
+          longValue = ((LongCellConverter) converter).convertLong(cell);
+        } catch (Exception e) {
+          throw conversionException(rowIndex, column);
+        }
+        binder.setLong(parsedObj, column, longValue);
+        break;
+      case DOUBLE:
+        double doubleValue;
+        try {
+          doubleValue = ((DoubleCellConverter) converter).convertDouble(cell);
+        } catch (Exception e) {
+          throw conversionException(rowIndex, column);
+        }
+        binder.setDouble(parsedObj, column, doubleValue);
+        break;
+      case BOOLEAN:
+        boolean booleanValue;
+        try {
+          booleanValue = ((BooleanCellConverter) converter).convertBoolean(cell);
+        } catch (Exception e) {
+          throw conversionException(rowIndex, column);
+        }
+        binder.setBoolean(parsedObj, column, booleanValue);
+        break;
+      default:
+        throw new IllegalStateException("Not a primitive field: " + column);
+    }
+  }
+}
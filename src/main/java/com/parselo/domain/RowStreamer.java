@@ -0,0 +1,48 @@
+package com.parselo.domain;
+
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFRow;
+
+/**
+ * Reads the rows of a sheet area straight from the file, without loading the whole workbook in memory.
+ */
+interface RowStreamer {
+
+  /**
+   * Consumer of the streamed rows, which can stop the streaming early.
+   */
+  @FunctionalInterface
+  interface RowConsumer {
+
+    /**
+     * Consume a streamed row.
+     *
+     * @param row the scratch row holding the cells of the area
+     * @param rowIndex the zero-based index of the row in the sheet
+     * @return true to keep streaming, false to stop without reading the rest of the area
+     */
+    boolean accept(HSSFRow row, int rowIndex);
+  }
+
+  /**
+   * Provide all the sheet names from the workbook.
+   *
+   * @return the list of sheet names
+   */
+  List<String> getSheetNames();
+
+  /**
+   * Stream every row of the area defined by the spec, in order, to the row consumer. Each row is handed over as a
+   * scratch {@link HSSFRow} holding only the cells of the area, stored at their offset from the first column of the
+   * spec. Rows or cells missing from the sheet are handed over as empty rows or missing cells. The scratch row is
+   * reused, so the consumer must not keep hold of it. Streaming ends as soon as the consumer asks to stop.
+   *
+   * @param sheetName the name of the sheet to stream
+   * @param spec the area to stream
+   * @param rowConsumer the consumer of the rows, along with the zero-based index of the row in the sheet
+   * @throws IllegalArgumentException if the sheet name doesn't exist
+   * @throws com.parselo.exception.InvalidConfigurationException if the spec rows are out of the sheet bounds
+   */
+  void stream(String sheetName, ParseloSpec spec, RowConsumer rowConsumer);
+}
@@ -0,0 +1,171 @@
+package com.parselo.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFCellStyle;
+import org.apache.poi.hssf.usermodel.HSSFDataFormat;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * A single reusable row of a small scratch workbook which streamed cell values are copied into.
+ * <p>
+ * This allows the {@link CellConverter}s to work on regular {@link HSSFCell}s when the source workbook is never loaded.
+ * Only the cells of one row and the styles actually used by them are ever held by the scratch workbook. Cells are
+ * stored at their offset from the first column of the streamed area, so any column of the source can be copied.
+ * <p>
+ * The shared string table of a workbook only ever grows, keeping every string value a cell was set to. The scratch
+ * workbook is therefore replaced by a new one once its rows held {@value #MAX_STRINGS} string cells, so the memory
+ * used stays bounded however many distinct strings are streamed.
+ */
+final class ScratchRow {
+
+  /**
+   * The number of string cells after which the scratch workbook is replaced.
+   */
+  static final int MAX_STRINGS = 1 << 14;
+
+  /**
+   * Lookup of the data format behind a style index of the source workbook.
+   */
+  interface FormatLookup {
+
+    /**
+     * Provide the index of the data format used by a style.
+     *
+     * @param styleIndex the index of the style in the source workbook
+     * @return the index of the data format used by the style
+     */
+    int formatIndex(int styleIndex);
+
+    /**
+     * Provide the format string used by a style.
+     *
+     * @param styleIndex the index of the style in the source workbook
+     * @return the format string, or null when the style uses a built-in format without an explicit format string
+     */
+    String formatString(int styleIndex);
+  }
+
+  private final boolean date1904;
+  private final FormatLookup formats;
+  /**
+   * The scratch styles created so far, keyed by the style index of the source workbook.
+   */
+  private final Map<Integer, HSSFCellStyle> styles = new HashMap<>();
+  /**
+   * The scratch styles created so far, keyed by their format, so styles of the source only differing in fonts,
+   * borders etc. share the same scratch style.
+   */
+  private final Map<String, HSSFCellStyle> stylesByFormat = new HashMap<>();
+
+  private HSSFWorkbook workbook;
+  private HSSFSheet sheet;
+  private HSSFRow row;
+  /**
+   * The number of string cells held by the current scratch workbook so far, bounding its shared string table.
+   */
+  private int strings;
+
+  ScratchRow(boolean date1904, FormatLookup formats) {
+    this.date1904 = date1904;
+    this.formats = formats;
+    createWorkbook();
+  }
+
+  /**
+   * Provide the current row holding the cells created since the last {@link #clear()}.
+   *
+   * @return the current row
+   */
+  HSSFRow row() {
+    return row;
+  }
+
+  /**
+   * Discard all the cells of the current row.
+   */
+  void clear() {
+    if (row.getPhysicalNumberOfCells() > 0) {
+      for (Cell cell : row) {
+        if (cell.getCellTypeEnum() == CellType.STRING) {
+          strings++;
+        }
+      }
+      if (strings >= MAX_STRINGS) {
+        createWorkbook();
+      } else {
+        sheet.removeRow(row);
+        row = sheet.createRow(0);
+      }
+    }
+  }
+
+  /**
+   * Create a cell in the current row carrying the data format of a style of the source workbook.
+   *
+   * @param columnOffset the zero-based offset of the cell from the first column of the streamed area
+   * @param styleIndex the index of the style in the source workbook
+   * @return the new blank cell
+   */
+  HSSFCell createCell(int columnOffset, int styleIndex) {
+    HSSFCell cell = row.createCell(columnOffset);
+    cell.setCellStyle(styles.computeIfAbsent(styleIndex, this::createStyle));
+    return cell;
+  }
+
+  //--------------------------------------------------------------------
+  private void createWorkbook() {
+    workbook = date1904 ? create1904Workbook() : new HSSFWorkbook();
+    sheet = workbook.createSheet();
+    row = sheet.createRow(0);
+    styles.clear();
+    stylesByFormat.clear();
+    strings = 0;
+  }
+
+  private HSSFCellStyle createStyle(int styleIndex) {
+    int formatIndex = formats.formatIndex(styleIndex);
+    String formatString = formats.formatString(styleIndex);
+    return stylesByFormat.computeIfAbsent(formatIndex + ":" + formatString, key -> {
+      HSSFCellStyle style = workbook.createCellStyle();
+      style.setDataFormat(dataFormat(formatIndex, formatString));
+      return style;
+    });
+  }
+
+  private short dataFormat(int formatIndex, String formatString) {
+    HSSFDataFormat dataFormat = workbook.createDataFormat();
+    if (formatString == null) {
+      return (short) formatIndex;
+    }
+    boolean builtin = formatIndex < BuiltinFormats.FIRST_USER_DEFINED_FORMAT_INDEX;
+    if (builtin && formatString.equals(dataFormat.getFormat((short) formatIndex))) {
+      return (short) formatIndex;
+    }
+    return dataFormat.getFormat(formatString);
+  }
+
+  // The 1904 date system can only be read from an existing workbook, so an empty one is written and read back
+  private static HSSFWorkbook create1904Workbook() {
+    try (HSSFWorkbook template = new HSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      DateWindow1904Record dateWindow =
+          (DateWindow1904Record) template.getInternalWorkbook().findFirstRecordBySid(DateWindow1904Record.sid);
+      dateWindow.setWindowing((short) 1);
+      template.write(out);
+      return new HSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.parselo.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * Converts the serial numbers Excel stores dates as into {@link LocalDate}s and {@link LocalDateTime}s, with the
+ * arithmetic of {@link org.apache.poi.ss.usermodel.DateUtil} but without going through a {@code Calendar}, a
+ * {@code Date} or a time zone.
+ * <p>
+ * A serial number counts days from the start of the date system of the workbook: 1900, where day 60 is the 29th of
+ * February 1900 that Excel believes in and which is read as the 1st of March, or 1904. Its fraction is the time of
+ * the day, rounded to the millisecond.
+ * <p>
+ * Recently converted values are kept in small caches indexed by the value, so the dates repeated over the rows of a
+ * sheet are converted once. The cached values are immutable, so the caches are shared between threads without locks:
+ * a thread missing the value written by another one converts it again.
+ */
+final class SerialDates {
+
+  private static final int CACHE_BITS = 10;
+  private static final int CACHE_MASK = (1 << CACHE_BITS) - 1;
+  private static final long DAY_MILLISECONDS = 86_400_000L;
+  private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+  private static final long EPOCH_DAY_1900 = LocalDate.of(1900, 1, 1).toEpochDay();
+  private static final long EPOCH_DAY_1904 = LocalDate.of(1904, 1, 1).toEpochDay();
+
+  private final LocalDate[] dates = new LocalDate[CACHE_MASK + 1];
+  private final LocalDateTime[] dateTimes = new LocalDateTime[CACHE_MASK + 1];
+
+  /**
+   * Check whether the workbook of a cell uses the 1904 date system.
+   *
+   * @param cell the cell
+   * @return true for the 1904 date system, false for the 1900 one
+   */
+  static boolean isDate1904(HSSFCell cell) {
+    return cell.getSheet().getWorkbook().getInternalWorkbook().isUsing1904DateWindowing();
+  }
+
+  /**
+   * Convert a serial number to the date of its day.
+   *
+   * @param serial the serial number
+   * @param date1904 whether the serial number is in the 1904 date system
+   * @return the date
+   * @throws IllegalArgumentException if the serial number is negative
+   */
+  LocalDate toLocalDate(double serial, boolean date1904) {
+    long wholeDays = wholeDays(serial);
+    long epochDay = epochDay(wholeDays, date1904);
+    if (millisecondsInDay(serial, wholeDays) == DAY_MILLISECONDS) {
+      epochDay++;
+    }
+    int slot = (int) epochDay & CACHE_MASK;
+    LocalDate date = dates[slot];
+    if (date == null || date.toEpochDay() != epochDay) {
+      date = LocalDate.ofEpochDay(epochDay);
+      dates[slot] = date;
+    }
+    return date;
+  }
+
+  /**
+   * Convert a serial number to its date and time.
+   *
+   * @param serial the serial number
+   * @param date1904 whether the serial number is in the 1904 date system
+   * @return the date and time, to the millisecond
+   * @throws IllegalArgumentException if the serial number is negative
+   */
+  LocalDateTime toLocalDateTime(double serial, boolean date1904) {
+    long wholeDays = wholeDays(serial);
+    long epochDay = epochDay(wholeDays, date1904);
+    long milliseconds = millisecondsInDay(serial, wholeDays);
+    if (milliseconds == DAY_MILLISECONDS) {
+      epochDay++;
+      milliseconds = 0;
+    }
+    long nanoOfDay = milliseconds * NANOS_PER_MILLISECOND;
+    int slot = (int) ((epochDay * DAY_MILLISECONDS + milliseconds) * 0x9E3779B97F4A7C15L >>> (64 - CACHE_BITS));
+    LocalDateTime dateTime = dateTimes[slot];
+    if (dateTime == null
+        || dateTime.toLocalDate().toEpochDay() != epochDay
+        || dateTime.toLocalTime().toNanoOfDay() != nanoOfDay) {
+      dateTime = LocalDateTime.of(toLocalDate(serial, date1904), LocalTime.ofNanoOfDay(nanoOfDay));
+      dateTimes[slot] = dateTime;
+    }
+    return dateTime;
+  }
+
+  //---------------------------------------------------------------
+  private static long wholeDays(double serial) {
+    // negative zero is a valid date, like DateUtil.isValidExcelDate accepts it
+    if (!(serial > -Double.MIN_VALUE)) {
+      throw new IllegalArgumentException(String.format("%s is not a valid Excel date", serial));
+    }
+    return (long) Math.floor(serial);
+  }
+
+  // Excel counts the 29th of February 1900, so days after it are one day ahead
+  private static long epochDay(long wholeDays, boolean date1904) {
+    if (date1904) {
+      return EPOCH_DAY_1904 + wholeDays;
+    }
+    return EPOCH_DAY_1900 + wholeDays - (wholeDays < 61 ? 1 : 2);
+  }
+
+  // Rounded like DateUtil does, so a time a fraction of a millisecond before midnight is the next day
+  private static long millisecondsInDay(double serial, long wholeDays) {
+    return (int) ((serial - wholeDays) * DAY_MILLISECONDS + 0.5);
+  }
+}
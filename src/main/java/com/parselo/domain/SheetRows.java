@@ -0,0 +1,71 @@
+package com.parselo.domain;
+
+import java.util.Iterator;
+
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * Utilities for walking the rows physically present in an area of a sheet.
+ */
+final class SheetRows {
+
+  private SheetRows() {
+  }
+
+  /**
+   * Visit, in order, the rows physically present in a range of rows of the sheet. When the sheet holds fewer rows than
+   * the range, the row iterator of the sheet is walked instead of probing every index of the range, so the cost
+   * depends on the rows present rather than on the size of the range.
+   *
+   * @param sheet the sheet to visit the rows of
+   * @param firstRow the zero-based index of the first row of the range
+   * @param lastRow the zero-based index of the last row of the range
+   * @param visitor the visitor of the rows, which can stop the walk
+   * @return true if all the rows were visited, false if the visitor stopped the walk
+   */
+  static boolean forEachRow(HSSFSheet sheet, int firstRow, int lastRow, RowStreamer.RowConsumer visitor) {
+    if (sheet.getPhysicalNumberOfRows() < lastRow - firstRow + 1) {
+      for (Iterator<Row> rows = sheet.rowIterator(); rows.hasNext(); ) {
+        HSSFRow row = (HSSFRow) rows.next();
+        int rowIndex = row.getRowNum();
+        if (rowIndex > lastRow) {
+          return true;
+        } else if (rowIndex >= firstRow && !visitor.accept(row, rowIndex)) {
+          return false;
+        }
+      }
+    } else {
+      for (int rowIndex = firstRow; rowIndex <= lastRow; rowIndex++) {
+        HSSFRow row = sheet.getRow(rowIndex);
+        if (row != null && !visitor.accept(row, rowIndex)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Check whether a row has no cell in a range of columns.
+   *
+   * @param row the row to check, null if the row is missing from the sheet
+   * @param firstColumn the zero-based index of the first column of the range
+   * @param columns the number of columns of the range
+   * @return true if the row is missing or has no cell in the columns
+   */
+  static boolean isEmpty(HSSFRow row, int firstColumn, int columns) {
+    if (row == null || row.getFirstCellNum() < 0) {
+      return true;
+    }
+    int from = Math.max(firstColumn, row.getFirstCellNum());
+    int to = Math.min(firstColumn + columns, row.getLastCellNum());
+    for (int column = from; column < to; column++) {
+      if (row.getCell(column) != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,128 @@
+package com.parselo.domain;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Matrix storage holding only the cells present in the sheet, in compressed sparse row form, and a single default value
+ * for all the other cells.
+ * <p>
+ * The column indexes of the stored values are kept row after row, with the offset of each row in {@code rowStarts}.
+ * A value is found with a binary search over the columns stored for its row.
+ */
+final class SparseMatrixCells implements MatrixCells {
+
+  private final int[] rowStarts;
+  private final int[] columnIndexes;
+  private final Object[] values;
+  private final Object defaultValue;
+
+  private SparseMatrixCells(int[] rowStarts, int[] columnIndexes, Object[] values, Object defaultValue) {
+    this.rowStarts = rowStarts;
+    this.columnIndexes = columnIndexes;
+    this.values = values;
+    this.defaultValue = defaultValue;
+  }
+
+  @Override
+  public Object get(int row, int column) {
+    int index = Arrays.binarySearch(columnIndexes, rowStarts[row], rowStarts[row + 1], column);
+    return index < 0 ? defaultValue : values[index];
+  }
+
+  @Override
+  public int storedCount() {
+    return values.length;
+  }
+
+  @Override
+  public boolean isSparse() {
+    return true;
+  }
+
+  /**
+   * Collects the values of a sparse matrix, row after row and column after column.
+   */
+  static final class Builder {
+
+    private final int[] rowStarts;
+    private int[] columnIndexes = new int[16];
+    private Object[] values = new Object[16];
+    private int size;
+    private int lastRow;
+
+    Builder(int rows) {
+      this.rowStarts = new int[rows + 1];
+    }
+
+    /**
+     * Add the value at a row and a column, after the values of the previous rows and columns.
+     *
+     * @param row the zero-based row index
+     * @param column the zero-based column index
+     * @param value the value
+     * @return this builder
+     */
+    Builder add(int row, int column, Object value) {
+      closeRowsUntil(row);
+      if (size == values.length) {
+        columnIndexes = Arrays.copyOf(columnIndexes, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      columnIndexes[size] = column;
+      values[size++] = value;
+      return this;
+    }
+
+    /**
+     * Provide the number of values added.
+     *
+     * @return the number of values
+     */
+    int size() {
+      return size;
+    }
+
+    /**
+     * Copy the values added into a dense array, row after row, taking a default for each of the values not added.
+     *
+     * @param columns the number of columns
+     * @param defaults the provider of the default values
+     * @return the dense values
+     */
+    Object[] toDense(int columns, Supplier<?> defaults) {
+      closeRowsUntil(rowStarts.length - 1);
+      Object[] dense = new Object[(rowStarts.length - 1) * columns];
+      for (int row = 0; row < rowStarts.length - 1; row++) {
+        int index = rowStarts[row];
+        for (int column = 0; column < columns; column++) {
+          boolean added = index < rowStarts[row + 1] && columnIndexes[index] == column;
+          dense[row * columns + column] = added ? values[index++] : defaults.get();
+        }
+      }
+      return dense;
+    }
+
+    /**
+     * Build the sparse storage.
+     *
+     * @param defaultValue the value of the cells not added
+     * @return the sparse storage
+     */
+    SparseMatrixCells build(Object defaultValue) {
+      closeRowsUntil(rowStarts.length - 1);
+      return new SparseMatrixCells(
+          rowStarts,
+          Arrays.copyOf(columnIndexes, size),
+          Arrays.copyOf(values, size),
+          defaultValue);
+    }
+
+    // The rows before the one given are complete, so they start where the values added so far end
+    private void closeRowsUntil(int row) {
+      while (lastRow < row) {
+        rowStarts[++lastRow] = size;
+      }
+    }
+  }
+}
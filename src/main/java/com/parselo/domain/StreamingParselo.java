@@ -0,0 +1,169 @@
+package com.parselo.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Streaming counterpart of {@link Parselo} which never loads the whole workbook in memory.
+ * <p>
+ * The rows are read straight from the file, every time a parse method is called, and only the cells inside the parsed
+ * area are kept. Memory use depends on the size of the parsed area rather than on the size of the workbook. Formula
+ * cells are read with the result cached in the file.
+ */
+public final class StreamingParselo {
+
+  private final ParseloAnnotationParser annotationParser;
+
+  private final RowStreamer rowStreamer;
+
+  private StreamingParselo(RowStreamer rowStreamer, ParseloAnnotationParser annotationParser) {
+    this.rowStreamer = rowStreamer;
+    this.annotationParser = annotationParser;
+  }
+
+  /**
+   * Create a new instance of the streaming Parselo given the row streamer of a workbook.
+   *
+   * @param rowStreamer the row streamer of the workbook
+   * @return the streaming parselo instance
+   */
+  static StreamingParselo of(RowStreamer rowStreamer) {
+    return new StreamingParselo(rowStreamer, new ParseloAnnotationParser());
+  }
+
+  //--------------------------------------------------------------------
+  /**
+   * Provide a streaming Parselo over the same workbook which converts the fields of annotated classes with the
+   * converters of the registry given.
+   *
+   * @param registry the registry of the converters
+   * @return the streaming parselo instance using the registry
+   */
+  public StreamingParselo withConverters(ConverterRegistry registry) {
+    JodaBeanUtils.notNull(registry, "registry");
+    return new StreamingParselo(rowStreamer, annotationParser.withConverters(registry));
+  }
+
+  /**
+   * Provide a streaming Parselo over the same workbook which replaces every parsed string by a canonical instance, so
+   * that equal strings parsed from different cells are held only once. Every parse holds a dictionary of its own,
+   * retained no longer than the parse.
+   *
+   * @return the streaming parselo instance interning strings
+   */
+  public StreamingParselo internStrings() {
+    return new StreamingParselo(rowStreamer, annotationParser.internStrings());
+  }
+
+  /**
+   * Provide all the sheet names from the workbook.
+   *
+   * @return the list of sheet names
+   */
+  public List<String> getSheetNames() {
+    return rowStreamer.getSheetNames();
+  }
+
+  /**
+   * Parse a list of objects of a specific type from the sheet given. The type of the objects parsed needs to be
+   * Parselo annotated with a {@link ConfigurationType#STATIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param <T> the type of objects to parse
+   * @return the list of objects of type T parsed from the sheet
+   * @throws IllegalArgumentException if the sheet name doesn't exist
+   * @throws com.parselo.exception.InvalidConfigurationException if the class T is not annotated for Parselo
+   */
+  public <T> List<T> parse(String sheetName, Class<T> clazz) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(clazz, "clazz");
+    return parseRows(sheetName, annotationParser.staticMapping(clazz));
+  }
+
+  /**
+   * Parse a list of objects of a specific type from the area of the sheet defined by the spec. The type of the objects
+   * parsed needs to be Parselo annotated with a {@link ConfigurationType#DYNAMIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param <T> the type of objects to parse
+   * @return the list of objects of type T parsed from the sheet
+   * @throws IllegalArgumentException if the sheet name doesn't exist
+   * @throws com.parselo.exception.InvalidConfigurationException if the class T is not annotated for Parselo
+   */
+  public <T> List<T> parse(String sheetName, Class<T> clazz, ParseloSpec spec) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    return parseRows(sheetName, annotationParser.dynamicMapping(clazz, spec));
+  }
+
+  /**
+   * Parse objects of a specific type from the sheet given, handing them over to the sink in batches as they are
+   * streamed. Only one row and one batch of objects are held in memory at a time, and reading the file stops as soon as
+   * the sink asks to. The type of the objects parsed needs to be Parselo annotated with a
+   * {@link ConfigurationType#STATIC} configuration.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param batchSize the maximum number of objects in a batch
+   * @param sink the sink of the batches, which can stop the parsing
+   * @param <T> the type of objects to parse
+   * @return the number of objects parsed
+   * @throws IllegalArgumentException if the sheet name doesn't exist or the batch size is not positive
+   * @throws com.parselo.exception.InvalidConfigurationException if the class T is not annotated for Parselo
+   */
+  public <T> int parse(String sheetName, Class<T> clazz, int batchSize, BatchSink<T> sink) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(clazz, "clazz");
+    return parseBatches(sheetName, annotationParser.staticMapping(clazz), batchSize, sink);
+  }
+
+  /**
+   * Parse objects of a specific type from the area of the sheet defined by the spec, handing them over to the sink in
+   * batches as they are streamed. Only one row and one batch of objects are held in memory at a time, and reading the
+   * file stops as soon as the sink asks to.
+   *
+   * @param sheetName the sheet name to parse
+   * @param clazz the class with type T
+   * @param spec the specification of the area to parse
+   * @param batchSize the maximum number of objects in a batch
+   * @param sink the sink of the batches, which can stop the parsing
+   * @param <T> the type of objects to parse
+   * @return the number of objects parsed
+   * @throws IllegalArgumentException if the sheet name doesn't exist or the batch size is not positive
+   * @throws com.parselo.exception.InvalidConfigurationException if the class T is not annotated for Parselo
+   */
+  public <T> int parse(String sheetName, Class<T> clazz, ParseloSpec spec, int batchSize, BatchSink<T> sink) {
+    JodaBeanUtils.notNull(sheetName, "sheetName");
+    JodaBeanUtils.notNull(clazz, "clazz");
+    JodaBeanUtils.notNull(spec, "specification");
+    return parseBatches(sheetName, annotationParser.dynamicMapping(clazz, spec), batchSize, sink);
+  }
+
+  //--------------------------------------------------------------------
+  private <T> List<T> parseRows(String sheetName, RowMapping<T> sharedMapping) {
+    RowMapping<T> mapping = annotationParser.forParse(sharedMapping);
+    List<T> rows = new ArrayList<>(mapping.getSpec().rows());
+    rowStreamer.stream(sheetName, mapping.getSpec(), (row, rowIndex) -> rows.add(mapping.map(row, rowIndex, 0)));
+    return rows;
+  }
+
+  private <T> int parseBatches(String sheetName, RowMapping<T> sharedMapping, int batchSize, BatchSink<T> sink) {
+    RowMapping<T> mapping = annotationParser.forParse(sharedMapping);
+    Batcher<T> batcher = new Batcher<>(batchSize, sink);
+    boolean[] stopped = new boolean[1];
+    rowStreamer.stream(sheetName, mapping.getSpec(), (row, rowIndex) -> {
+      stopped[0] = !batcher.add(mapping.map(row, rowIndex, 0));
+      return !stopped[0];
+    });
+    if (!stopped[0]) {
+      batcher.flush();
+    }
+    return batcher.count();
+  }
+}
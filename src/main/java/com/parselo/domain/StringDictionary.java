@@ -0,0 +1,84 @@
+package com.parselo.domain;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * A dictionary of the strings parsed by a single parse, handing out a single canonical instance for every distinct
+ * value.
+ * <p>
+ * Categorical columns repeat a few values over many rows. With a dictionary, every parsed object holding one of those
+ * values references the same string, and the copies made by the converters are left to the garbage collector.
+ * The string cells of a workbook already share the string of their shared string table entry, so the dictionary is
+ * keyed by value rather than by entry: it catches the strings built by the converters, such as formatted numbers, and
+ * the inline strings of streamed workbooks.
+ * <p>
+ * A dictionary is created for every parse, stream or lazy matrix and shared by the threads of a parallel parse. It
+ * holds every distinct string it has seen, so it is dropped along with its parse rather than kept by the Parselo.
+ */
+final class StringDictionary {
+
+  private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+
+  /**
+   * Provide the canonical instance of a string.
+   *
+   * @param value the string
+   * @return the instance held by the dictionary for the value
+   */
+  String canonical(String value) {
+    String canonical = strings.putIfAbsent(value, value);
+    return canonical == null ? value : canonical;
+  }
+
+  /**
+   * Provide the number of distinct strings held by the dictionary.
+   *
+   * @return the number of strings
+   */
+  int size() {
+    return strings.size();
+  }
+
+  /**
+   * Wrap a converter so that the strings it converts are replaced by their canonical instance. Primitive converters
+   * never convert to strings and are returned as they are, so that they keep converting without boxing.
+   *
+   * @param converter the converter to wrap
+   * @param <T> the type converted to
+   * @return the interning converter
+   */
+  <T> CellConverter<T> interning(CellConverter<T> converter) {
+    if (converter instanceof IntCellConverter
+        || converter instanceof LongCellConverter
+        || converter instanceof DoubleCellConverter
+        || converter instanceof BooleanCellConverter) {
+      return converter;
+    }
+    return new CellConverter<T>() {
+      @Override
+      public T convert(HSSFCell cell) {
+        return canonicalValue(converter.convert(cell));
+      }
+
+      @Override
+      public T getDefault() {
+        return canonicalValue(converter.getDefault());
+      }
+
+      @Override
+      public CellConverter<T> forParse() {
+        CellConverter<T> parseConverter = converter.forParse();
+        return parseConverter == converter ? this : interning(parseConverter);
+      }
+    };
+  }
+
+  //---------------------------------------------------------------
+  @SuppressWarnings("unchecked")
+  private <T> T canonicalValue(T value) {
+    return value instanceof String ? (T) canonical((String) value) : value;
+  }
+}
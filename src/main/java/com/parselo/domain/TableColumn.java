@@ -0,0 +1,441 @@
+package com.parselo.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+
+/**
+ * The values of a single field of the rows of a {@link ParseloTable}, held in a compact form depending on the type of
+ * the field: a primitive array for numbers and booleans, a dictionary of distinct values for strings and an epoch day
+ * array for dates. Other types are held as objects.
+ * <p>
+ * Rows whose cell is missing, or converted to null, are not present and read as null. Columns are filled once, row
+ * after row, and only read afterwards.
+ */
+abstract class TableColumn {
+
+  private final Class<?> fieldType;
+  private final BitSet present = new BitSet();
+
+  private TableColumn(Class<?> fieldType) {
+    this.fieldType = fieldType;
+  }
+
+  /**
+   * Create the column of a field.
+   *
+   * @param fieldType the type of the field
+   * @param converter the converter of the field
+   * @param capacity the maximum number of rows
+   * @return the column
+   */
+  static TableColumn of(Class<?> fieldType, CellConverter<?> converter, int capacity) {
+    Class<?> boxedType = boxed(fieldType);
+    if (boxedType == Integer.class && converter instanceof IntCellConverter) {
+      return new IntColumn(fieldType, (IntCellConverter) converter, capacity);
+    } else if (boxedType == Long.class && converter instanceof LongCellConverter) {
+      return new LongColumn(fieldType, (LongCellConverter) converter, capacity);
+    } else if (boxedType == Double.class && converter instanceof DoubleCellConverter) {
+      return new DoubleColumn(fieldType, (DoubleCellConverter) converter, capacity);
+    } else if (boxedType == Boolean.class && converter instanceof BooleanCellConverter) {
+      return new BooleanColumn(fieldType, (BooleanCellConverter) converter);
+    } else if (fieldType == String.class) {
+      return new StringColumn(converter, capacity);
+    } else if (fieldType == LocalDate.class) {
+      return new DateColumn(converter, capacity);
+    }
+    return new ObjectColumn(fieldType, converter, capacity);
+  }
+
+  /**
+   * Provide the type of the field of the column.
+   *
+   * @return the field type
+   */
+  Class<?> getFieldType() {
+    return fieldType;
+  }
+
+  /**
+   * Check whether a row has a value.
+   *
+   * @param row the row index in the table
+   * @return true if the row has a value
+   */
+  boolean isPresent(int row) {
+    return present.get(row);
+  }
+
+  /**
+   * Provide the rows holding a value.
+   *
+   * @return the present rows, not to be modified
+   */
+  BitSet presentRows() {
+    return present;
+  }
+
+  /**
+   * Convert a cell into the value of a row.
+   *
+   * @param row the row index in the table
+   * @param cell the cell to convert, never null
+   */
+  void read(int row, HSSFCell cell) {
+    if (store(row, cell)) {
+      present.set(row);
+    }
+  }
+
+  /**
+   * Provide the value of a row.
+   *
+   * @param row the row index in the table
+   * @return the value, null if the row has no value
+   */
+  Object get(int row) {
+    return present.get(row) ? value(row) : null;
+  }
+
+  /**
+   * Assign the value of a row to the field of an object. Rows without value set primitive fields to the primitive
+   * default of the converter of the column, or leave them with the value given by the constructor for a column of
+   * objects, and set other fields to null.
+   *
+   * @param binder the binder of the object
+   * @param target the object
+   * @param field the index of the field
+   * @param row the row index in the table
+   * @param <T> the type of the object
+   */
+  <T> void bind(ObjectBinder<T> binder, T target, int field, int row) {
+    if (present.get(row)) {
+      bindValue(binder, target, field, row);
+    } else if (fieldType.isPrimitive()) {
+      bindDefault(binder, target, field);
+    } else {
+      binder.set(target, field, null);
+    }
+  }
+
+  /**
+   * Release what was only needed while filling the column.
+   */
+  void complete() {
+  }
+
+  //--------------------------------------------------------------------
+  // Stores the converted value of the cell, returns false if it is null
+  abstract boolean store(int row, HSSFCell cell);
+
+  abstract Object value(int row);
+
+  <T> void bindValue(ObjectBinder<T> binder, T target, int field, int row) {
+    binder.set(target, field, value(row));
+  }
+
+  // Assigns the default of a primitive field whose row has no value
+  <T> void bindDefault(ObjectBinder<T> binder, T target, int field) {
+  }
+
+  static Class<?> boxed(Class<?> type) {
+    if (type == int.class) {
+      return Integer.class;
+    } else if (type == long.class) {
+      return Long.class;
+    } else if (type == double.class) {
+      return Double.class;
+    } else if (type == boolean.class) {
+      return Boolean.class;
+    }
+    return type;
+  }
+
+  /**
+   * Column of ints.
+   */
+  static final class IntColumn extends TableColumn {
+
+    private final IntCellConverter converter;
+    private final int[] values;
+
+    private IntColumn(Class<?> fieldType, IntCellConverter converter, int capacity) {
+      super(fieldType);
+      this.converter = converter;
+      this.values = new int[capacity];
+    }
+
+    int getInt(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      values[row] = converter.convertInt(cell);
+      return true;
+    }
+
+    @Override
+    Object value(int row) {
+      return values[row];
+    }
+
+    @Override
+    <T> void bindValue(ObjectBinder<T> binder, T target, int field, int row) {
+      if (getFieldType().isPrimitive()) {
+        binder.setInt(target, field, values[row]);
+      } else {
+        binder.set(target, field, values[row]);
+      }
+    }
+
+    @Override
+    <T> void bindDefault(ObjectBinder<T> binder, T target, int field) {
+      binder.setInt(target, field, converter.getIntDefault());
+    }
+  }
+
+  /**
+   * Column of longs.
+   */
+  static final class LongColumn extends TableColumn {
+
+    private final LongCellConverter converter;
+    private final long[] values;
+
+    private LongColumn(Class<?> fieldType, LongCellConverter converter, int capacity) {
+      super(fieldType);
+      this.converter = converter;
+      this.values = new long[capacity];
+    }
+
+    long getLong(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      values[row] = converter.convertLong(cell);
+      return true;
+    }
+
+    @Override
+    Object value(int row) {
+      return values[row];
+    }
+
+    @Override
+    <T> void bindValue(ObjectBinder<T> binder, T target, int field, int row) {
+      if (getFieldType().isPrimitive()) {
+        binder.setLong(target, field, values[row]);
+      } else {
+        binder.set(target, field, values[row]);
+      }
+    }
+
+    @Override
+    <T> void bindDefault(ObjectBinder<T> binder, T target, int field) {
+      binder.setLong(target, field, converter.getLongDefault());
+    }
+  }
+
+  /**
+   * Column of doubles.
+   */
+  static final class DoubleColumn extends TableColumn {
+
+    private final DoubleCellConverter converter;
+    private final double[] values;
+
+    private DoubleColumn(Class<?> fieldType, DoubleCellConverter converter, int capacity) {
+      super(fieldType);
+      this.converter = converter;
+      this.values = new double[capacity];
+    }
+
+    double getDouble(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      values[row] = converter.convertDouble(cell);
+      return true;
+    }
+
+    @Override
+    Object value(int row) {
+      return values[row];
+    }
+
+    @Override
+    <T> void bindValue(ObjectBinder<T> binder, T target, int field, int row) {
+      if (getFieldType().isPrimitive()) {
+        binder.setDouble(target, field, values[row]);
+      } else {
+        binder.set(target, field, values[row]);
+      }
+    }
+
+    @Override
+    <T> void bindDefault(ObjectBinder<T> binder, T target, int field) {
+      binder.setDouble(target, field, converter.getDoubleDefault());
+    }
+  }
+
+  /**
+   * Column of booleans, held as bits.
+   */
+  static final class BooleanColumn extends TableColumn {
+
+    private final BooleanCellConverter converter;
+    private final BitSet values = new BitSet();
+
+    private BooleanColumn(Class<?> fieldType, BooleanCellConverter converter) {
+      super(fieldType);
+      this.converter = converter;
+    }
+
+    boolean getBoolean(int row) {
+      return values.get(row);
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      values.set(row, converter.convertBoolean(cell));
+      return true;
+    }
+
+    @Override
+    Object value(int row) {
+      return values.get(row);
+    }
+
+    @Override
+    <T> void bindValue(ObjectBinder<T> binder, T target, int field, int row) {
+      if (getFieldType().isPrimitive()) {
+        binder.setBoolean(target, field, values.get(row));
+      } else {
+        binder.set(target, field, values.get(row));
+      }
+    }
+
+    @Override
+    <T> void bindDefault(ObjectBinder<T> binder, T target, int field) {
+      binder.setBoolean(target, field, converter.getBooleanDefault());
+    }
+  }
+
+  /**
+   * Column of strings, holding each distinct string once and the code of its string for every row.
+   */
+  static final class StringColumn extends TableColumn {
+
+    private final CellConverter<?> converter;
+    private final int[] codes;
+    private final List<String> dictionary = new ArrayList<>();
+    private Map<String, Integer> encoding = new HashMap<>();
+
+    private StringColumn(CellConverter<?> converter, int capacity) {
+      super(String.class);
+      this.converter = converter;
+      this.codes = new int[capacity];
+    }
+
+    /**
+     * Provide the number of distinct strings of the column.
+     *
+     * @return the number of distinct strings
+     */
+    int distinctCount() {
+      return dictionary.size();
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      String value = (String) converter.convert(cell);
+      if (value == null) {
+        return false;
+      }
+      Integer code = encoding.get(value);
+      if (code == null) {
+        code = dictionary.size();
+        dictionary.add(value);
+        encoding.put(value, code);
+      }
+      codes[row] = code;
+      return true;
+    }
+
+    @Override
+    Object value(int row) {
+      return dictionary.get(codes[row]);
+    }
+
+    @Override
+    void complete() {
+      encoding = null;
+    }
+  }
+
+  /**
+   * Column of dates, held as days from the epoch.
+   */
+  static final class DateColumn extends TableColumn {
+
+    private final CellConverter<?> converter;
+    private final int[] epochDays;
+
+    private DateColumn(CellConverter<?> converter, int capacity) {
+      super(LocalDate.class);
+      this.converter = converter;
+      this.epochDays = new int[capacity];
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      LocalDate value = (LocalDate) converter.convert(cell);
+      if (value == null) {
+        return false;
+      }
+      epochDays[row] = Math.toIntExact(value.toEpochDay());
+      return true;
+    }
+
+    @Override
+    Object value(int row) {
+      return LocalDate.ofEpochDay(epochDays[row]);
+    }
+  }
+
+  /**
+   * Column of objects of any other type.
+   */
+  static final class ObjectColumn extends TableColumn {
+
+    private final CellConverter<?> converter;
+    private final Object[] values;
+
+    private ObjectColumn(Class<?> fieldType, CellConverter<?> converter, int capacity) {
+      super(fieldType);
+      this.converter = converter;
+      this.values = new Object[capacity];
+    }
+
+    @Override
+    boolean store(int row, HSSFCell cell) {
+      values[row] = converter.convert(cell);
+      return values[row] != null;
+    }
+
+    @Override
+    Object value(int row) {
+      return values[row];
+    }
+  }
+}
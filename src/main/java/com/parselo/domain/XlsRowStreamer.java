@@ -0,0 +1,322 @@
+package com.parselo.domain;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.ExtendedFormatRecord;
+import org.apache.poi.hssf.record.FormatRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRichTextString;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaError;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Streams the rows of an xls sheet using the HSSF event API. The records of the workbook are read one at a time and
+ * only the cells inside the requested area are kept, one row at a time. Reading stops as soon as the area is complete.
+ */
+final class XlsRowStreamer implements RowStreamer {
+
+  private static final short CONTINUE = 0;
+  private static final short ABORT = 1;
+
+  /**
+   * Opens the OLE2 container of the xls.
+   */
+  interface FileSystemSource {
+
+    /**
+     * Open a new file system over the OLE2 container of the xls.
+     *
+     * @return the file system, to be closed by the caller
+     * @throws IOException if the container cannot be opened
+     */
+    NPOIFSFileSystem open() throws IOException;
+  }
+
+  private final FileSystemSource source;
+
+  XlsRowStreamer(FileSystemSource source) {
+    this.source = source;
+  }
+
+  @Override
+  public List<String> getSheetNames() {
+    SheetNamesListener listener = new SheetNamesListener();
+    process(listener);
+    return ImmutableList.copyOf(listener.sheetNames);
+  }
+
+  @Override
+  public void stream(String sheetName, ParseloSpec spec, RowConsumer rowConsumer) {
+    SheetListener listener = new SheetListener(sheetName, spec, rowConsumer);
+    process(listener);
+    if (!listener.sheetFound) {
+      throw new IllegalArgumentException("No sheet found for name: " + sheetName);
+    }
+  }
+
+  //--------------------------------------------------------------------
+  private void process(AbortableHSSFListener listener) {
+    HSSFRequest request = new HSSFRequest();
+    request.addListenerForAllRecords(listener);
+    try (NPOIFSFileSystem fileSystem = source.open()) {
+      new HSSFEventFactory().abortableProcessWorkbookEvents(request, fileSystem.getRoot());
+    } catch (IOException | HSSFUserException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Collects the sheet names from the workbook globals, stopping before the first sheet.
+   */
+  private static final class SheetNamesListener extends AbortableHSSFListener {
+
+    private final List<String> sheetNames = new ArrayList<>();
+
+    @Override
+    public short abortableProcessRecord(Record record) {
+      if (record instanceof BoundSheetRecord) {
+        sheetNames.add(((BoundSheetRecord) record).getSheetname());
+      } else if (record instanceof EOFRecord) {
+        return ABORT;
+      }
+      return CONTINUE;
+    }
+  }
+
+  /**
+   * Copies the cells of the spec area from the record stream of the requested sheet into a scratch row, handing each
+   * complete row over to the row consumer.
+   */
+  private static final class SheetListener extends AbortableHSSFListener implements ScratchRow.FormatLookup {
+
+    private final String sheetName;
+    private final RowConsumer rowConsumer;
+    private final ParseloSpec spec;
+    private final int rowStart;
+    private final int rowEnd;
+    private final int columnStart;
+    private final int columnEnd;
+
+    // workbook globals
+    private final List<BoundSheetRecord> boundSheets = new ArrayList<>();
+    private final Map<Integer, String> formatStrings = new HashMap<>();
+    private final List<Integer> styleFormats = new ArrayList<>();
+    private SSTRecord sharedStrings;
+    private boolean date1904;
+
+    // position in the stream
+    private int depth;
+    private List<String> sheetsInStreamOrder;
+    private int sheetIndex = -1;
+    private boolean inSheet;
+    private boolean sheetFound;
+
+    // the area being streamed
+    private ScratchRow scratch;
+    private int nextRow;
+    private boolean stopped;
+    private HSSFCell pendingStringFormula;
+
+    SheetListener(String sheetName, ParseloSpec spec, RowConsumer rowConsumer) {
+      this.sheetName = sheetName;
+      this.spec = spec;
+      this.rowConsumer = rowConsumer;
+      this.rowStart = spec.getRowStart() - 1;
+      this.rowEnd = spec.getRowEnd() - 1;
+      this.columnStart = spec.getColumnStartIndex() - 1;
+      this.columnEnd = spec.getColumnEndIndex() - 1;
+      this.nextRow = rowStart;
+    }
+
+    @Override
+    public short abortableProcessRecord(Record record) {
+      switch (record.getSid()) {
+        case BOFRecord.sid:
+          if (depth++ == 0 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+            startSheet();
+          }
+          return CONTINUE;
+        case EOFRecord.sid:
+          if (--depth == 0 && inSheet) {
+            emitRowsUntil(rowEnd);
+            return ABORT;
+          }
+          return CONTINUE;
+        case BoundSheetRecord.sid:
+          boundSheets.add((BoundSheetRecord) record);
+          return CONTINUE;
+        case SSTRecord.sid:
+          sharedStrings = (SSTRecord) record;
+          return CONTINUE;
+        case FormatRecord.sid:
+          FormatRecord format = (FormatRecord) record;
+          formatStrings.put(format.getIndexCode(), format.getFormatString());
+          return CONTINUE;
+        case ExtendedFormatRecord.sid:
+          styleFormats.add((int) ((ExtendedFormatRecord) record).getFormatIndex());
+          return CONTINUE;
+        case DateWindow1904Record.sid:
+          date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+          return CONTINUE;
+        default:
+          return inSheet && depth == 1 ? processSheetRecord(record) : CONTINUE;
+      }
+    }
+
+    @Override
+    public int formatIndex(int styleIndex) {
+      return styleIndex < styleFormats.size() ? styleFormats.get(styleIndex) : 0;
+    }
+
+    @Override
+    public String formatString(int styleIndex) {
+      return formatStrings.get(formatIndex(styleIndex));
+    }
+
+    //--------------------------------------------------------------------
+    private void startSheet() {
+      if (sheetsInStreamOrder == null) {
+        sheetsInStreamOrder = Arrays.stream(BoundSheetRecord.orderByBofPosition(boundSheets))
+            .map(BoundSheetRecord::getSheetname)
+            .collect(ImmutableList.toImmutableList());
+      }
+      sheetIndex++;
+      inSheet = sheetIndex < sheetsInStreamOrder.size()
+          && sheetsInStreamOrder.get(sheetIndex).equalsIgnoreCase(sheetName);
+      if (inSheet) {
+        sheetFound = true;
+        scratch = new ScratchRow(date1904, this);
+      }
+    }
+
+    private short processSheetRecord(Record record) {
+      if (record instanceof DimensionsRecord) {
+        DimensionsRecord dimensions = (DimensionsRecord) record;
+        ParseloAnnotationParser.validateBounds(spec, sheetName, dimensions.getFirstRow(), dimensions.getLastRow() - 1);
+      } else if (record instanceof StringRecord) {
+        if (pendingStringFormula != null) {
+          pendingStringFormula.setCellValue(new HSSFRichTextString(((StringRecord) record).getString()));
+          pendingStringFormula = null;
+        }
+      } else if (record instanceof MulBlankRecord) {
+        MulBlankRecord blanks = (MulBlankRecord) record;
+        for (int column = blanks.getFirstColumn(); column <= blanks.getLastColumn(); column++) {
+          if (!acceptCell(blanks.getRow())) {
+            return ABORT;
+          }
+          if (inArea(blanks.getRow(), column)) {
+            scratch.createCell(column - columnStart, blanks.getXFAt(column - blanks.getFirstColumn()));
+          }
+        }
+      } else if (record instanceof CellValueRecordInterface) {
+        CellValueRecordInterface cellRecord = (CellValueRecordInterface) record;
+        if (!acceptCell(cellRecord.getRow())) {
+          return ABORT;
+        }
+        if (inArea(cellRecord.getRow(), cellRecord.getColumn())) {
+          HSSFCell cell = scratch.createCell(cellRecord.getColumn() - columnStart, cellRecord.getXFIndex());
+          copyValue(cellRecord, cell);
+        }
+      }
+      return CONTINUE;
+    }
+
+    // Cells come in row order, so the rows before the cell are complete. Returns false once past the end of the area
+    // or once the consumer stopped.
+    private boolean acceptCell(int row) {
+      if (row > rowEnd) {
+        emitRowsUntil(rowEnd);
+        return false;
+      }
+      emitRowsUntil(row - 1);
+      return !stopped;
+    }
+
+    private boolean inArea(int row, int column) {
+      return row >= rowStart && column >= columnStart && column <= columnEnd;
+    }
+
+    private void emitRowsUntil(int lastRow) {
+      while (!stopped && nextRow <= lastRow) {
+        stopped = !rowConsumer.accept(scratch.row(), nextRow++);
+        scratch.clear();
+      }
+    }
+
+    private void copyValue(CellValueRecordInterface cellRecord, HSSFCell cell) {
+      if (cellRecord instanceof NumberRecord) {
+        cell.setCellValue(((NumberRecord) cellRecord).getValue());
+      } else if (cellRecord instanceof LabelSSTRecord) {
+        int stringIndex = ((LabelSSTRecord) cellRecord).getSSTIndex();
+        cell.setCellValue(new HSSFRichTextString(sharedStrings.getString(stringIndex).getString()));
+      } else if (cellRecord instanceof LabelRecord) {
+        cell.setCellValue(new HSSFRichTextString(((LabelRecord) cellRecord).getValue()));
+      } else if (cellRecord instanceof BoolErrRecord) {
+        BoolErrRecord boolErr = (BoolErrRecord) cellRecord;
+        if (boolErr.isBoolean()) {
+          cell.setCellValue(boolErr.getBooleanValue());
+        } else {
+          cell.setCellErrorValue(FormulaError.forInt(boolErr.getErrorValue()));
+        }
+      } else if (cellRecord instanceof FormulaRecord) {
+        copyCachedFormulaValue((FormulaRecord) cellRecord, cell);
+      }
+    }
+
+    // Formula cells are copied with their cached result, as formulas cannot be evaluated without the whole workbook
+    private void copyCachedFormulaValue(FormulaRecord formula, HSSFCell cell) {
+      switch (cachedResultType(formula)) {
+        case NUMERIC:
+          cell.setCellValue(formula.getValue());
+          break;
+        case BOOLEAN:
+          cell.setCellValue(formula.getCachedBooleanValue());
+          break;
+        case ERROR:
+          cell.setCellErrorValue(FormulaError.forInt(formula.getCachedErrorValue()));
+          break;
+        case STRING:
+          if (formula.hasCachedResultString()) {
+            pendingStringFormula = cell;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    // POI 3.17 only gives the cached result type of a formula record as a code, read with the deprecated CellType.forInt
+    // until the records expose the CellType itself
+    @SuppressWarnings("deprecation")
+    private static CellType cachedResultType(FormulaRecord formula) {
+      return CellType.forInt(formula.getCachedResultType());
+    }
+  }
+}
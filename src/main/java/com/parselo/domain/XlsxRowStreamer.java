@@ -0,0 +1,360 @@
+package com.parselo.domain;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRichTextString;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Streams the rows of an xlsx sheet by reading the sheet XML with a SAX handler through the {@link XSSFReader}. Only
+ * the cells inside the requested area are kept, one row at a time, and reading stops as soon as the area is complete.
+ * <p>
+ * The package is opened from the file so the sheet XML is inflated while it is read rather than up front. The shared
+ * strings table and the styles are the only workbook wide parts held in memory.
+ */
+final class XlsxRowStreamer implements RowStreamer {
+
+  private static final String SPREADSHEETML = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+  private final File file;
+
+  XlsxRowStreamer(File file) {
+    this.file = file;
+  }
+
+  @Override
+  public List<String> getSheetNames() {
+    OPCPackage xlsx = open();
+    try {
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(xlsx).getSheetsData();
+      ImmutableList.Builder<String> sheetNames = ImmutableList.builder();
+      while (sheets.hasNext()) {
+        sheets.next().close();
+        sheetNames.add(sheets.getSheetName());
+      }
+      return sheetNames.build();
+    } catch (IOException | OpenXML4JException e) {
+      throw new RuntimeException(e);
+    } finally {
+      xlsx.revert();
+    }
+  }
+
+  @Override
+  public void stream(String sheetName, ParseloSpec spec, RowConsumer rowConsumer) {
+    OPCPackage xlsx = open();
+    try {
+      XSSFReader reader = new XSSFReader(xlsx);
+      boolean date1904 = isDate1904(reader);
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+      while (sheets.hasNext()) {
+        try (InputStream sheet = sheets.next()) {
+          if (sheets.getSheetName().equalsIgnoreCase(sheetName)) {
+            SheetHandler handler = new SheetHandler(
+                sheetName,
+                spec,
+                rowConsumer,
+                new ReadOnlySharedStringsTable(xlsx),
+                new ScratchRow(date1904, new StyleFormats(reader.getStylesTable())));
+            parse(sheet, handler);
+            return;
+          }
+        }
+      }
+      throw new IllegalArgumentException("No sheet found for name: " + sheetName);
+    } catch (IOException | OpenXML4JException | SAXException e) {
+      throw new RuntimeException(e);
+    } finally {
+      xlsx.revert();
+    }
+  }
+
+  //--------------------------------------------------------------------
+  private OPCPackage open() {
+    try {
+      return OPCPackage.open(file, PackageAccess.READ);
+    } catch (OpenXML4JException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static boolean isDate1904(XSSFReader reader) throws IOException, OpenXML4JException, SAXException {
+    boolean[] date1904 = new boolean[1];
+    try (InputStream workbook = reader.getWorkbookData()) {
+      parse(workbook, new DefaultHandler() {
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+          if ("workbookPr".equals(localName)) {
+            String value = attributes.getValue("date1904");
+            date1904[0] = "1".equals(value) || "true".equals(value);
+          }
+        }
+      });
+    }
+    return date1904[0];
+  }
+
+  private static void parse(InputStream xml, DefaultHandler handler) throws IOException, SAXException {
+    try {
+      XMLReader xmlReader = SAXHelper.newXMLReader();
+      xmlReader.setContentHandler(handler);
+      xmlReader.parse(new InputSource(xml));
+    } catch (AreaComplete e) {
+      // the whole area has been read
+    } catch (ParserConfigurationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Thrown by the sheet handler to stop reading the sheet once the whole area has been read.
+   */
+  private static final class AreaComplete extends SAXException {
+
+    private static final long serialVersionUID = 1L;
+  }
+
+  /**
+   * The data formats of the styles of the xlsx.
+   */
+  private static final class StyleFormats implements ScratchRow.FormatLookup {
+
+    private final StylesTable styles;
+
+    private StyleFormats(StylesTable styles) {
+      this.styles = styles;
+    }
+
+    @Override
+    public int formatIndex(int styleIndex) {
+      XSSFCellStyle style = style(styleIndex);
+      return style == null ? 0 : style.getDataFormat();
+    }
+
+    @Override
+    public String formatString(int styleIndex) {
+      XSSFCellStyle style = style(styleIndex);
+      return style == null ? null : style.getDataFormatString();
+    }
+
+    private XSSFCellStyle style(int styleIndex) {
+      return styles == null || styleIndex >= styles.getNumCellStyles() ? null : styles.getStyleAt(styleIndex);
+    }
+  }
+
+  /**
+   * Copies the cells of the spec area from the sheet XML into a scratch row, handing each complete row over to the row
+   * consumer.
+   */
+  private static final class SheetHandler extends DefaultHandler {
+
+    private final String sheetName;
+    private final ParseloSpec spec;
+    private final RowConsumer rowConsumer;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final ScratchRow scratch;
+    private final int rowStart;
+    private final int rowEnd;
+    private final int columnStart;
+    private final int columnEnd;
+
+    private int nextRow;
+    private boolean stopped;
+    private boolean outOfBounds;
+    private int firstRow = -1;
+    private int currentRow = -1;
+    private int currentColumn = -1;
+
+    // the cell being read
+    private String cellType;
+    private int cellStyle;
+    private boolean cellInArea;
+    private boolean readingValue;
+    private final StringBuilder value = new StringBuilder();
+    private boolean hasValue;
+
+    SheetHandler(
+        String sheetName,
+        ParseloSpec spec,
+        RowConsumer rowConsumer,
+        ReadOnlySharedStringsTable sharedStrings,
+        ScratchRow scratch) {
+      this.sheetName = sheetName;
+      this.spec = spec;
+      this.rowConsumer = rowConsumer;
+      this.sharedStrings = sharedStrings;
+      this.scratch = scratch;
+      this.rowStart = spec.getRowStart() - 1;
+      this.rowEnd = spec.getRowEnd() - 1;
+      this.columnStart = spec.getColumnStartIndex() - 1;
+      this.columnEnd = spec.getColumnEndIndex() - 1;
+      this.nextRow = rowStart;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+      if (!SPREADSHEETML.equals(uri)) {
+        return;
+      }
+      switch (localName) {
+        case "dimension":
+          validateDimension(attributes.getValue("ref"));
+          break;
+        case "row":
+          startRow(attributes);
+          break;
+        case "c":
+          startCell(attributes);
+          break;
+        case "v":
+        case "t":
+          if (cellInArea) {
+            readingValue = true;
+            hasValue = true;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+      if (!SPREADSHEETML.equals(uri)) {
+        return;
+      }
+      switch (localName) {
+        case "v":
+        case "t":
+          readingValue = false;
+          break;
+        case "c":
+          if (cellInArea) {
+            endCell();
+          }
+          break;
+        case "sheetData":
+          endSheetData();
+          break;
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      if (readingValue) {
+        value.append(ch, start, length);
+      }
+    }
+
+    //--------------------------------------------------------------------
+    // The optional dimension of the sheet allows the bounds to be validated before any row is read
+    private void validateDimension(String reference) {
+      if (reference != null) {
+        CellRangeAddress dimension = CellRangeAddress.valueOf(reference);
+        ParseloAnnotationParser.validateBounds(spec, sheetName, dimension.getFirstRow(), dimension.getLastRow());
+      }
+    }
+
+    private void startRow(Attributes attributes) throws SAXException {
+      String reference = attributes.getValue("r");
+      currentRow = reference == null ? currentRow + 1 : Integer.parseInt(reference) - 1;
+      currentColumn = -1;
+      if (firstRow < 0) {
+        firstRow = currentRow;
+        // the bounds are only known at the end of the sheet, so keep reading to report them
+        outOfBounds = rowStart < firstRow;
+      }
+      if (outOfBounds) {
+        return;
+      }
+      // rows come in order, so the rows before this one are complete
+      emitRowsUntil(Math.min(currentRow - 1, rowEnd));
+      if (stopped || currentRow > rowEnd) {
+        throw new AreaComplete();
+      }
+    }
+
+    private void startCell(Attributes attributes) {
+      String reference = attributes.getValue("r");
+      currentColumn = reference == null ? currentColumn + 1 : new CellReference(reference).getCol();
+      cellInArea = !outOfBounds
+          && currentRow >= rowStart && currentColumn >= columnStart && currentColumn <= columnEnd;
+      if (cellInArea) {
+        String style = attributes.getValue("s");
+        cellType = attributes.getValue("t");
+        cellStyle = style == null ? 0 : Integer.parseInt(style);
+        value.setLength(0);
+        hasValue = false;
+      }
+    }
+
+    private void endCell() {
+      HSSFCell cell = scratch.createCell(currentColumn - columnStart, cellStyle);
+      if (!hasValue) {
+        return;
+      }
+      String text = value.toString();
+      switch (cellType == null ? "n" : cellType) {
+        case "s":
+          cell.setCellValue(new HSSFRichTextString(sharedStrings.getEntryAt(Integer.parseInt(text))));
+          break;
+        case "inlineStr":
+        case "str":
+          cell.setCellValue(new HSSFRichTextString(text));
+          break;
+        case "b":
+          cell.setCellValue("1".equals(text) || "true".equals(text));
+          break;
+        case "e":
+          cell.setCellErrorValue(FormulaError.forString(text));
+          break;
+        case "n":
+          if (!text.isEmpty()) {
+            cell.setCellValue(Double.parseDouble(text));
+          }
+          break;
+        default:
+          cell.setCellValue(new HSSFRichTextString(text));
+          break;
+      }
+    }
+
+    private void endSheetData() {
+      int lastRow = Math.max(currentRow, 0);
+      ParseloAnnotationParser.validateBounds(spec, sheetName, Math.max(firstRow, 0), lastRow);
+      emitRowsUntil(rowEnd);
+    }
+
+    private void emitRowsUntil(int lastRow) {
+      while (!stopped && nextRow <= lastRow) {
+        stopped = !rowConsumer.accept(scratch.row(), nextRow++);
+        scratch.clear();
+      }
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package com.parselo.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+import com.parselo.annotations.ParseloColumn;
+import com.parselo.annotations.ParseloPosition;
+import com.parselo.annotations.ParseloRow;
+import com.parselo.domain.ConfigurationType;
+import com.parselo.domain.ParseloMapper;
+
+/**
+ * Generates a {@link ParseloMapper} for every class annotated with {@link ParseloRow}, so that the class can be parsed
+ * with plain field assignments instead of reflection.
+ * <p>
+ * A mapper is only generated for a top-level, non-abstract class with a public non-args constructor whose annotated
+ * fields are neither static nor final. The generated code holds no reflection: fields visible from the package of the
+ * class are assigned directly, and private fields through their non-private setter {@code setName(Type)}. A class
+ * with a private annotated field without such a setter, any other class, and classes whose annotations are incomplete
+ * get a note and no mapper, leaving the validation and parsing to the reflective path at runtime.
+ * <p>
+ * The generated mappers are listed in {@code META-INF/services/com.parselo.domain.ParseloMapper}, so that Parselo
+ * finds them with a {@link java.util.ServiceLoader} instead of looking up a class by name.
+ */
+@SupportedAnnotationTypes("com.parselo.annotations.ParseloRow")
+public class ParseloMapperProcessor extends AbstractProcessor {
+
+  private static final List<TypeKind> PRIMITIVE_SETTERS =
+      Arrays.asList(TypeKind.INT, TypeKind.LONG, TypeKind.DOUBLE, TypeKind.BOOLEAN);
+
+  private static final String SERVICES = "META-INF/services/" + ParseloMapper.class.getName();
+
+  /**
+   * The qualified names of the mappers generated by this compilation, listed as services once it is over.
+   */
+  private final List<String> mappers = new ArrayList<>();
+  /**
+   * The classes the mappers are generated for.
+   */
+  private final List<Element> mappedTypes = new ArrayList<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(ParseloRow.class)) {
+      if (element.getKind() == ElementKind.CLASS) {
+        TypeElement type = (TypeElement) element;
+        String reason = unsupportedReason(type);
+        if (reason != null) {
+          note(type, String.format("No %s generated for %s: %s", ParseloMapper.class.getSimpleName(), type, reason));
+        } else {
+          generate(type);
+        }
+      }
+    }
+    if (roundEnv.processingOver() && !mappers.isEmpty()) {
+      writeServices();
+    }
+    return false;
+  }
+
+  //--------------------------------------------------------------------
+  private String unsupportedReason(TypeElement type) {
+    if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+      return "only top-level classes are supported";
+    }
+    if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+      return "the class is abstract";
+    }
+    boolean publicConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+        .anyMatch(constructor -> constructor.getParameters().isEmpty()
+            && constructor.getModifiers().contains(Modifier.PUBLIC));
+    if (!publicConstructor) {
+      return "the class has no public non-args constructor";
+    }
+    List<VariableElement> fields = annotatedFields(type);
+    if (fields.isEmpty()) {
+      return "the class has no annotated fields";
+    }
+    for (VariableElement field : fields) {
+      Set<Modifier> modifiers = field.getModifiers();
+      if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+        return String.format("the field %s is static or final", field.getSimpleName());
+      }
+      if (isPrivate(field) && !hasSetter(type, field)) {
+        return String.format("the field %s is private and has no non-private setter %s(%s)",
+            field.getSimpleName(), setterName(field), field.asType());
+      }
+    }
+    return null;
+  }
+
+  // A non-private, non-static void method named after the field and taking exactly the type of the field
+  private boolean hasSetter(TypeElement type, VariableElement field) {
+    String setterName = setterName(field);
+    return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+        .anyMatch(method -> method.getSimpleName().contentEquals(setterName)
+            && !method.getModifiers().contains(Modifier.PRIVATE)
+            && !method.getModifiers().contains(Modifier.STATIC)
+            && method.getReturnType().getKind() == TypeKind.VOID
+            && method.getParameters().size() == 1
+            && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType()));
+  }
+
+  // The fields in the order of the columns, sorted the same way as by the reflective parser
+  private static List<VariableElement> annotatedFields(TypeElement type) {
+    List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements());
+    if (configurationType(type) == ConfigurationType.STATIC) {
+      return fields.stream()
+          .filter(field -> field.getAnnotation(ParseloColumn.class) != null)
+          .sorted(Comparator.comparing(field -> field.getAnnotation(ParseloColumn.class).name()))
+          .collect(Collectors.toList());
+    }
+    return fields.stream()
+        .filter(field -> field.getAnnotation(ParseloPosition.class) != null)
+        .sorted(Comparator.comparing(field -> field.getAnnotation(ParseloPosition.class).position()))
+        .collect(Collectors.toList());
+  }
+
+  private static ConfigurationType configurationType(TypeElement type) {
+    return type.getAnnotation(ParseloRow.class).type();
+  }
+
+  private void generate(TypeElement type) {
+    String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String className = type.getSimpleName().toString();
+    String mapperName = className + ParseloMapper.SUFFIX;
+    List<VariableElement> fields = annotatedFields(type);
+    ConfigurationType configurationType = configurationType(type);
+
+    try (Writer writer = processingEnv.getFiler()
+        .createSourceFile(type.getQualifiedName() + ParseloMapper.SUFFIX, type)
+        .openWriter();
+        PrintWriter out = new PrintWriter(writer)) {
+
+      if (!packageName.isEmpty()) {
+        out.printf("package %s;%n%n", packageName);
+      }
+      out.printf("/**%n * The {@link com.parselo.domain.ParseloMapper} of {@link %s}, generated by %s.%n */%n",
+          className, getClass().getName());
+      out.printf("public final class %s implements com.parselo.domain.ParseloMapper<%s> {%n%n", mapperName, className);
+
+      out.printf("  private static final java.util.List<Class<?>> FIELD_TYPES = java.util.Collections"
+          + ".unmodifiableList(java.util.Arrays.<Class<?>>asList(%n      %s));%n%n", fields.stream()
+          .map(field -> erasure(field.asType()) + ".class")
+          .collect(Collectors.joining("," + System.lineSeparator() + "      ")));
+      out.printf("  private static final java.util.List<String> FIELD_NAMES = java.util.Collections"
+          + ".unmodifiableList(java.util.Arrays.asList(%n      %s));%n%n", fields.stream()
+          .map(field -> "\"" + field.getSimpleName() + "\"")
+          .collect(Collectors.joining("," + System.lineSeparator() + "      ")));
+
+      out.printf("  @Override%n  public Class<%s> getMappedType() {%n", className);
+      out.printf("    return %s.class;%n  }%n%n", className);
+
+      out.printf("  @Override%n  public com.parselo.domain.ConfigurationType getConfigurationType() {%n");
+      out.printf("    return com.parselo.domain.ConfigurationType.%s;%n  }%n%n", configurationType);
+
+      out.printf("  @Override%n  public com.parselo.domain.ParseloSpec getSpec() {%n");
+      if (configurationType == ConfigurationType.STATIC) {
+        ParseloRow row = type.getAnnotation(ParseloRow.class);
+        List<String> columns = fields.stream()
+            .map(field -> field.getAnnotation(ParseloColumn.class).name())
+            .sorted()
+            .collect(Collectors.toList());
+        out.printf("    return com.parselo.domain.ParseloSpec.builder()%n");
+        out.printf("        .rowStart(%d)%n        .rowEnd(%d)%n", row.start(), row.end());
+        out.printf("        .columnStart(\"%s\")%n        .columnEnd(\"%s\")%n        .build();%n  }%n%n",
+            columns.get(0), columns.get(columns.size() - 1));
+      } else {
+        out.printf("    return null;%n  }%n%n");
+      }
+
+      out.printf("  @Override%n  public java.util.List<Class<?>> getFieldTypes() {%n");
+      out.printf("    return FIELD_TYPES;%n  }%n%n");
+
+      out.printf("  @Override%n  public java.util.List<String> getFieldNames() {%n");
+      out.printf("    return FIELD_NAMES;%n  }%n%n");
+
+      out.printf("  @Override%n  public %s newInstance() {%n", className);
+      out.printf("    return new %s();%n  }%n%n", className);
+
+      out.printf("  @Override%n  public void set(%s target, int field, Object value) {%n", className);
+      List<String> assignments = new ArrayList<>();
+      for (int index = 0; index < fields.size(); index++) {
+        VariableElement field = fields.get(index);
+        TypeMirror fieldType = field.asType();
+        String cast = fieldType.getKind().isPrimitive()
+            ? String.format("(%s) (%s) value", fieldType, boxedErasure(fieldType))
+            : String.format("(%s) value", erasure(fieldType));
+        assignments.add(assignment(field, cast));
+      }
+      generateSwitch(out, assignments, "throw new IndexOutOfBoundsException(\"No field at index \" + field);");
+      out.printf("  }%n");
+      for (TypeKind kind : PRIMITIVE_SETTERS) {
+        generatePrimitiveSetter(out, className, fields, kind);
+      }
+      out.printf("}%n");
+      mappers.add(type.getQualifiedName() + ParseloMapper.SUFFIX);
+      mappedTypes.add(type);
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          String.format("Could not write %s: %s", mapperName, e.getMessage()), type);
+    }
+  }
+
+  // Primitive fields are assigned without boxing by overriding the boxing default setters of the mapper
+  private static void generatePrimitiveSetter(
+      PrintWriter out,
+      String className,
+      List<VariableElement> fields,
+      TypeKind kind) {
+
+    if (fields.stream().noneMatch(field -> field.asType().getKind() == kind)) {
+      return;
+    }
+    String primitive = kind.name().toLowerCase(Locale.ENGLISH);
+    String setter = "set" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+    out.printf("%n  @Override%n  public void %s(%s target, int field, %s value) {%n", setter, className, primitive);
+    List<String> assignments = new ArrayList<>();
+    for (int index = 0; index < fields.size(); index++) {
+      VariableElement field = fields.get(index);
+      assignments.add(field.asType().getKind() == kind ? assignment(field, "value") : null);
+    }
+    generateSwitch(out, assignments, "set(target, field, value);");
+    out.printf("  }%n");
+  }
+
+  // The switch over the field indexes, without a case for the fields left null in the assignments
+  private static void generateSwitch(PrintWriter out, List<String> assignments, String defaultStatement) {
+    out.printf("    switch (field) {%n");
+    for (int index = 0; index < assignments.size(); index++) {
+      if (assignments.get(index) != null) {
+        out.printf("      case %d:%n        %s;%n        break;%n", index, assignments.get(index));
+      }
+    }
+    out.printf("      default:%n        %s%n", defaultStatement);
+    out.printf("    }%n");
+  }
+
+  // Private fields are assigned through their setter, checked to exist by unsupportedReason
+  private static String assignment(VariableElement field, String value) {
+    if (isPrivate(field)) {
+      return String.format("target.%s(%s)", setterName(field), value);
+    }
+    return String.format("target.%s = %s", field.getSimpleName(), value);
+  }
+
+  private static boolean isPrivate(VariableElement field) {
+    return field.getModifiers().contains(Modifier.PRIVATE);
+  }
+
+  private static String setterName(VariableElement field) {
+    String name = field.getSimpleName().toString();
+    return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  // Written once all the rounds are over, as the filer only creates a resource once per compilation
+  private void writeServices() {
+    try (Writer writer = processingEnv.getFiler()
+        .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES, mappedTypes.toArray(new Element[0]))
+        .openWriter();
+        PrintWriter out = new PrintWriter(writer)) {
+
+      for (String mapper : mappers) {
+        out.printf("%s%n", mapper);
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          String.format("Could not write %s: %s", SERVICES, e.getMessage()));
+    }
+  }
+
+  private String erasure(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+  // Casting to the boxed type keeps the generated code valid for primitive fields
+  private String boxedErasure(TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return processingEnv.getTypeUtils()
+          .boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+          .getQualifiedName()
+          .toString();
+    }
+    return erasure(type);
+  }
+
+  private void note(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+  }
+}
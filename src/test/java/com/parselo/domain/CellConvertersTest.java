@@ -0,0 +1,197 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFCellStyle;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.jupiter.api.Test;
+
+class CellConvertersTest {
+
+  private static final String[] FORMATS = {
+      "General", "@", "0", "0.00", "#,##0.00", "0%", "0.00E+00", "# ?/?", "$#,##0.00;($#,##0.00)",
+      "[>=100]\"big\";\"small\"", "0.00;[Red]-0.00;\"zero\"", "d/m/yyyy", "yyyy-mm-dd hh:mm:ss", "mmm-yy", "[h]:mm",
+      "\"fixed\"", "[Red]0.0"};
+
+  private static final double[] VALUES = {0, 1, -1, 0.5, 12.345, -1234.5678, 43000.75, 1.5e12, 1e-7, -0.25};
+
+  @Test
+  void toString_styledNumbers_matchesDataFormatter() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Formats");
+    for (int format = 0; format < FORMATS.length; format++) {
+      HSSFCellStyle style = workbook.createCellStyle();
+      style.setDataFormat(workbook.createDataFormat().getFormat(FORMATS[format]));
+      HSSFRow row = sheet.createRow(format);
+      for (int value = 0; value < VALUES.length; value++) {
+        HSSFCell cell = row.createCell(value);
+        cell.setCellValue(VALUES[value]);
+        cell.setCellStyle(style);
+      }
+    }
+
+    assertMatchesDataFormatter(sheet);
+  }
+
+  @Test
+  void toString_otherCellTypes_matchesDataFormatter() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Types");
+    HSSFRow row = sheet.createRow(0);
+    row.createCell(0).setCellValue("text");
+    row.createCell(1).setCellValue(true);
+    row.createCell(2).setCellValue(false);
+    row.createCell(3);
+    row.createCell(4).setCellFormula("A1&\"!\"");
+    row.createCell(5).setCellErrorValue(FormulaError.DIV0);
+    row.createCell(6).setCellValue(Calendar.getInstance());
+    row.createCell(7).setCellValue(42.5);
+
+    assertMatchesDataFormatter(sheet);
+  }
+
+  @Test
+  void toString_sameStyleIndexInOtherWorkbook_usesFormatOfWorkbook() {
+    HSSFSheet percents = sheetWithStyledValue("0%");
+    HSSFSheet decimals = sheetWithStyledValue("0.000");
+
+    assertThat(convert(percents)).containsExactly("50%");
+    assertThat(convert(decimals)).containsExactly("0.500");
+    assertThat(convert(percents)).containsExactly("50%");
+  }
+
+  @Test
+  void toString_exampleSheets_matchesDataFormatter() throws IOException {
+    for (String file : new String[] {"annotation_examples.xls", "test_examples.xls"}) {
+      try (InputStream stream = getClass().getClassLoader().getResourceAsStream(file)) {
+        HSSFWorkbook workbook = new HSSFWorkbook(stream);
+        for (Sheet sheet : workbook) {
+          assertMatchesDataFormatter((HSSFSheet) sheet);
+        }
+      }
+    }
+  }
+
+  @Test
+  void toLocalDateTime_bothDateSystems_matchesDateUtil() {
+    for (boolean date1904 : new boolean[] {false, true}) {
+      HSSFSheet sheet = (date1904 ? workbook1904() : new HSSFWorkbook()).createSheet("Dates");
+      HSSFRow row = sheet.createRow(0);
+      double[] serials = {0, 0.5, 1, 59, 59.75, 60, 60.25, 61, 366, 1000.999999999, 43000.123456, 2958465.5};
+      for (int column = 0; column < serials.length; column++) {
+        HSSFCell cell = row.createCell(column);
+        cell.setCellValue(serials[column]);
+
+        Calendar calendar = DateUtil.getJavaCalendar(serials[column], date1904, TimeZone.getTimeZone("UTC"), false);
+        LocalDateTime expected = LocalDateTime.ofInstant(calendar.toInstant(), ZoneOffset.UTC);
+        assertThat(CellConverters.TO_LOCAL_DATE_TIME.convert(cell))
+            .as("serial %s", serials[column])
+            .isEqualTo(expected);
+        assertThat(CellConverters.TO_LOCAL_DATE.convert(cell)).isEqualTo(expected.toLocalDate());
+      }
+    }
+  }
+
+  @Test
+  void toLocalDate_serialOfDay_returnsDate() {
+    HSSFCell cell = new HSSFWorkbook().createSheet("Dates").createRow(0).createCell(0);
+    // 25569 is the serial of the 1st of January 1970
+    cell.setCellValue(LocalDate.of(2019, 3, 31).toEpochDay() + 25569);
+
+    assertThat(CellConverters.TO_LOCAL_DATE.convert(cell)).isEqualTo(LocalDate.of(2019, 3, 31));
+  }
+
+  @Test
+  void toLocalDate_repeatedDates_returnsCachedInstance() {
+    HSSFRow row = new HSSFWorkbook().createSheet("Dates").createRow(0);
+    row.createCell(0).setCellValue(43000.25);
+    row.createCell(1).setCellValue(43000.75);
+
+    assertThat(CellConverters.TO_LOCAL_DATE.convert(row.getCell(1)))
+        .isSameAs(CellConverters.TO_LOCAL_DATE.convert(row.getCell(0)));
+    assertThat(CellConverters.TO_LOCAL_DATE_TIME.convert(row.getCell(1)))
+        .isSameAs(CellConverters.TO_LOCAL_DATE_TIME.convert(row.getCell(1)));
+  }
+
+  @Test
+  void toLocalDate_blankOrNegativeCell_returnsDefaultOrThrowsException() {
+    HSSFRow row = new HSSFWorkbook().createSheet("Dates").createRow(0);
+    row.createCell(0);
+    row.createCell(1).setCellValue(-1);
+
+    assertThat(CellConverters.TO_LOCAL_DATE.convertWithDefault(row.getCell(0))).isEqualTo(LocalDate.MIN);
+    assertThat(CellConverters.TO_LOCAL_DATE_TIME.convertWithDefault(row.getCell(0))).isEqualTo(LocalDateTime.MIN);
+    assertThatThrownBy(() -> CellConverters.TO_LOCAL_DATE.convert(row.getCell(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("-1.0 is not a valid Excel date");
+  }
+
+  //---------------------------------------------------------------
+  private static void assertMatchesDataFormatter(HSSFSheet sheet) {
+    DataFormatter formatter = new DataFormatter();
+    List<String> expected = new ArrayList<>();
+    for (Row row : sheet) {
+      for (Cell cell : row) {
+        expected.add(formatter.formatCellValue(cell));
+      }
+    }
+
+    assertThat(convert(sheet)).containsExactlyElementsOf(expected);
+  }
+
+  private static List<String> convert(HSSFSheet sheet) {
+    List<String> values = new ArrayList<>();
+    for (Row row : sheet) {
+      for (Cell cell : row) {
+        values.add(CellConverters.TO_STRING.convert((HSSFCell) cell));
+      }
+    }
+    return values;
+  }
+
+  private static HSSFSheet sheetWithStyledValue(String format) {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFCellStyle style = workbook.createCellStyle();
+    style.setDataFormat(workbook.createDataFormat().getFormat(format));
+    HSSFCell cell = workbook.createSheet("Values").createRow(0).createCell(0);
+    cell.setCellValue(0.5);
+    cell.setCellStyle(style);
+    return workbook.getSheetAt(0);
+  }
+
+  private static HSSFWorkbook workbook1904() {
+    try (HSSFWorkbook template = new HSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      DateWindow1904Record dateWindow =
+          (DateWindow1904Record) template.getInternalWorkbook().findFirstRecordBySid(DateWindow1904Record.sid);
+      dateWindow.setWindowing((short) 1);
+      template.write(out);
+      return new HSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.PricedCar;
+import com.parselo.examples.PricedCar.Fuel;
+import com.parselo.examples.PrimitiveCar;
+
+class ConverterRegistryTest {
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(3)
+      .columnStart("A")
+      .columnEnd("D")
+      .build();
+
+  private static final CellConverter<BigDecimal> TO_BIG_DECIMAL = new CellConverter<BigDecimal>() {
+    @Override
+    public BigDecimal convert(HSSFCell cell) {
+      return new BigDecimal(cell.getStringCellValue());
+    }
+
+    @Override
+    public BigDecimal getDefault() {
+      return BigDecimal.ZERO;
+    }
+  };
+
+  private static final CellConverter<Instant> TO_INSTANT = new CellConverter<Instant>() {
+    @Override
+    public Instant convert(HSSFCell cell) {
+      return CellConverters.TO_LOCAL_DATE_TIME.convert(cell).toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public Instant getDefault() {
+      return Instant.EPOCH;
+    }
+  };
+
+  private static final ConverterRegistry REGISTRY = ConverterRegistry.builder()
+      .register(BigDecimal.class, TO_BIG_DECIMAL)
+      .register(Instant.class, TO_INSTANT)
+      .registerEnum(Fuel.class)
+      .build();
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Cars");
+    String[][] cars = {{"Opel", " DIESEL ", "19999.99"}, {"BMW", "PETROL", "45000.10"}, {"Tesla", "ELECTRIC", "0.1"}};
+    for (int rowIndex = 0; rowIndex < cars.length; rowIndex++) {
+      HSSFRow row = sheet.createRow(rowIndex);
+      row.createCell(0).setCellValue(cars[rowIndex][0]);
+      row.createCell(1).setCellValue(cars[rowIndex][1]);
+      row.createCell(2).setCellValue(cars[rowIndex][2]);
+      // 43466.5 is the serial of noon on the 1st of January 2019
+      row.createCell(3).setCellValue(43466.5 + rowIndex);
+    }
+    // the second row of the primitive cars is missing
+    HSSFSheet primitiveCars = workbook.createSheet("PrimitiveCars");
+    for (int rowIndex = 0; rowIndex < 3; rowIndex += 2) {
+      HSSFRow row = primitiveCars.createRow(rowIndex);
+      row.createCell(0).setCellValue("Astra");
+      row.createCell(1).setCellValue(2010 + rowIndex);
+      row.createCell(2).setCellValue(1000);
+      row.createCell(3).setCellValue(19999.99);
+    }
+    parselo = Parselo.of(workbook);
+  }
+
+  @Test
+  void parse_registeredConverters_convertsFields() {
+    List<PricedCar> cars = parselo.withConverters(REGISTRY).parse("Cars", PricedCar.class, CARS);
+
+    assertThat(cars).extracting(PricedCar::getFuel).containsExactly(Fuel.DIESEL, Fuel.PETROL, Fuel.ELECTRIC);
+    assertThat(cars).extracting(PricedCar::getPrice)
+        .containsExactly(new BigDecimal("19999.99"), new BigDecimal("45000.10"), new BigDecimal("0.1"));
+    assertThat(cars.get(1).getListed()).isEqualTo(Instant.parse("2019-01-02T12:00:00Z"));
+    assertThat(cars.get(2).getProducer()).isEqualTo("Tesla");
+  }
+
+  @Test
+  void parse_withoutRegistry_rejectsFieldWithoutConverter() {
+    assertThatThrownBy(() -> parselo.parse("Cars", PricedCar.class, CARS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("field 'fuel' to type '" + Fuel.class.getName() + "'");
+  }
+
+  @Test
+  void mapping_registryWithoutConverter_failsBeforeParsing() {
+    ConverterRegistry registry = ConverterRegistry.builder().registerEnum(Fuel.class).build();
+    ParseloAnnotationParser parser = new ParseloAnnotationParser().withConverters(registry);
+
+    assertThatThrownBy(() -> parser.dynamicMapping(PricedCar.class, CARS))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("field 'price' to type '" + BigDecimal.class.getName() + "'");
+  }
+
+  @Test
+  void parse_replacedDefaultConverter_convertsWithReplacement() {
+    CellConverter<String> upperCase = new CellConverter<String>() {
+      @Override
+      public String convert(HSSFCell cell) {
+        return CellConverters.TO_STRING.convert(cell).toUpperCase(Locale.ROOT);
+      }
+
+      @Override
+      public String getDefault() {
+        return "";
+      }
+    };
+    ConverterRegistry registry = REGISTRY.toBuilder().register(String.class, upperCase).build();
+
+    List<PricedCar> cars = parselo.withConverters(registry).parse("Cars", PricedCar.class, CARS);
+
+    assertThat(cars).extracting(PricedCar::getProducer).containsExactly("OPEL", "BMW", "TESLA");
+    assertThat(parselo.withConverters(REGISTRY).parse("Cars", PricedCar.class, CARS).get(0).getProducer())
+        .isEqualTo("Opel");
+  }
+
+  @Test
+  void parse_registeredPrimitiveConverter_setsItsDefaultForMissingRow() {
+    ConverterRegistry registry = ConverterRegistry.builder().register(int.class, CellConverters.toInteger(-1)).build();
+    Parselo primitiveParselo = parselo.withConverters(registry);
+
+    List<PrimitiveCar> cars = primitiveParselo.parse("PrimitiveCars", PrimitiveCar.class, CARS);
+    ParseloTable<PrimitiveCar> table = primitiveParselo.parseTable("PrimitiveCars", PrimitiveCar.class, CARS);
+
+    assertThat(cars).extracting(PrimitiveCar::getYear).containsExactly(2010, -1, 2012);
+    assertThat(cars.get(1).getPrice()).isNaN();
+    assertThat(table.getRow(1).getYear()).isEqualTo(-1);
+    assertThat(table.getRow(1).getType()).isNull();
+  }
+
+  @Test
+  void mapping_sameRegistry_resolvesConvertersOnce() {
+    ParseloAnnotationParser parser = new ParseloAnnotationParser().withConverters(REGISTRY);
+
+    assertThat(parser.dynamicMapping(PricedCar.class, CARS).converter(2)).isSameAs(TO_BIG_DECIMAL);
+    assertThat(parser.staticMapping(Car.class)).isSameAs(parser.staticMapping(Car.class))
+        .isSameAs(parser.skippingEmptyRows().staticMapping(Car.class));
+  }
+
+  @Test
+  void builder_changedAfterBuild_leavesRegistryUnchanged() {
+    ConverterRegistry.Builder builder = ConverterRegistry.builder().register(BigDecimal.class, TO_BIG_DECIMAL);
+    ConverterRegistry registry = builder.build();
+
+    builder.register(Instant.class, TO_INSTANT);
+
+    assertThat(registry.find(BigDecimal.class)).contains(TO_BIG_DECIMAL);
+    assertThat(registry.find(Instant.class)).isEmpty();
+    assertThat(ConverterRegistry.defaults().find(BigDecimal.class)).isEmpty();
+    assertThat(ConverterRegistry.defaults().find(int.class)).contains(CellConverters.TO_INTEGER);
+    assertThatThrownBy(() -> registry.asMap().clear()).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void conversionTargetToConverter_isUnmodifiableDefaults() {
+    assertThat(CellConverters.conversionTargetToConverter).isEqualTo(ConverterRegistry.defaults().asMap());
+    assertThatThrownBy(() -> CellConverters.conversionTargetToConverter.put(BigDecimal.class, TO_BIG_DECIMAL))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void toEnum_blankOrUnknownName_returnsNullOrThrowsException() {
+    HSSFRow row = new HSSFWorkbook().createSheet("Fuels").createRow(0);
+    row.createCell(0).setCellValue(" ");
+    row.createCell(1).setCellValue("HYDROGEN");
+    CellConverter<Fuel> converter = CellConverters.toEnum(Fuel.class);
+
+    assertThat(converter.convert(row.getCell(0))).isNull();
+    assertThatThrownBy(() -> converter.convert(row.getCell(1))).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,58 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+
+class ObjectBinderTest {
+
+  @Test
+  void methodHandles_withPublicClass_bindsSameCarAsReflection() throws Exception {
+    Field[] fields = {
+        Car.class.getDeclaredField("producer"),
+        Car.class.getDeclaredField("year")};
+
+    Car reflected = bind(ObjectBinder.reflection(Car.class.getConstructor(), fields));
+    Car handled = bind(ObjectBinder.methodHandles(Car.class.getConstructor(), fields));
+
+    assertThat(handled).isEqualToComparingFieldByField(reflected);
+    assertThat(handled.getProducer()).isEqualTo("Opel");
+    assertThat(handled.getYear()).isEqualTo(2010);
+  }
+
+  @Test
+  void methodHandles_withPrivateClass_bindsNewInstances() throws Exception {
+    ObjectBinder<Engine> binder = ObjectBinder.methodHandles(
+        Engine.class.getConstructor(),
+        new Field[] {Engine.class.getDeclaredField("power"), Engine.class.getDeclaredField("cylinders")});
+
+    Engine engine = binder.newInstance();
+    binder.set(engine, 0, 110d);
+    binder.setInt(engine, 1, 4);
+
+    assertThat(engine.power).isEqualTo(110d);
+    assertThat(engine.cylinders).isEqualTo(4);
+    assertThat(binder.newInstance()).isNotSameAs(engine);
+  }
+
+  private static Car bind(ObjectBinder<Car> binder) {
+    Car car = binder.newInstance();
+    binder.set(car, 0, "Opel");
+    binder.set(car, 1, 2010);
+    return car;
+  }
+
+  private static class Engine {
+
+    private Double power;
+
+    private int cylinders;
+
+    public Engine() {
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+
+class ParseloBatchTest {
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(3)
+      .rowEnd(5)
+      .columnStart("B")
+      .columnEnd("E")
+      .build();
+
+  private static Parselo parselo;
+  private static StreamingParselo streamingParselo;
+
+  @BeforeAll
+  static void setup() {
+    parselo = Parselo.of("annotation_examples.xls");
+    streamingParselo = Parselo.streaming("annotation_examples.xls");
+  }
+
+  @Test
+  void parse_withBatchSize_handsOverCarsInBatches() {
+    List<List<String>> batches = new ArrayList<>();
+
+    int parsed = parselo.parse("Cars", Car.class, 2, BatchSink.of(batch -> batches.add(producers(batch))));
+
+    assertThat(parsed).isEqualTo(3);
+    assertThat(batches).containsExactly(ImmutableList.of("Opel", "BMW"), ImmutableList.of("Mercedes"));
+  }
+
+  @Test
+  void parse_withStoppingSink_stopsAfterFirstBatch() {
+    List<List<String>> batches = new ArrayList<>();
+
+    int parsed = parselo.parse("Cars", DynamicCar.class, CARS, 1, batch -> {
+      batches.add(batch.stream().map(DynamicCar::getProducer).collect(Collectors.toList()));
+      return false;
+    });
+
+    assertThat(parsed).isEqualTo(1);
+    assertThat(batches).containsExactly(ImmutableList.of("Opel"));
+  }
+
+  @Test
+  void parse_streamingWithStoppingSink_stopsAfterSecondBatch() {
+    List<List<String>> batches = new ArrayList<>();
+
+    int parsed = streamingParselo.parse("Cars", Car.class, 1, batch -> {
+      batches.add(producers(batch));
+      return batches.size() < 2;
+    });
+
+    assertThat(parsed).isEqualTo(2);
+    assertThat(batches).containsExactly(ImmutableList.of("Opel"), ImmutableList.of("BMW"));
+  }
+
+  @Test
+  void parse_streamingWithBatchSize_handsOverSameCarsAsParse() {
+    List<DynamicCar> cars = new ArrayList<>();
+
+    int parsed = streamingParselo.parse("Cars", DynamicCar.class, CARS, 2, BatchSink.of(cars::addAll));
+
+    assertThat(parsed).isEqualTo(3);
+    assertThat(cars).usingFieldByFieldElementComparator().isEqualTo(parselo.parse("Cars", DynamicCar.class, CARS));
+  }
+
+  @Test
+  void parse_withNonPositiveBatchSize_throwsException() {
+    assertThatThrownBy(() -> parselo.parse("Cars", Car.class, 0, batch -> true))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("batchSize expected to be a positive number but was 0");
+  }
+
+  private static List<String> producers(List<Car> cars) {
+    return cars.stream().map(Car::getProducer).collect(Collectors.toList());
+  }
+}
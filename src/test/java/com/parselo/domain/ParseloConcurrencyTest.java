@@ -0,0 +1,143 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.poi.hssf.usermodel.HSSFCellStyle;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.DynamicCar;
+
+class ParseloConcurrencyTest {
+
+  private static final int THREADS = 16;
+
+  private static final int ITERATIONS = 10;
+
+  private static final int ROWS = 2_000;
+
+  private static final String[] FORMATS = {"0.00", "yyyy-mm-dd", "0%", "#,##0", "General", "d/m/yy h:mm", "0.0E+00"};
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("A")
+      .columnEnd("D")
+      .build();
+
+  private static final ParseloSpec TYPES = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("B")
+      .columnEnd("B")
+      .build();
+
+  private static Parselo parselo;
+  private static List<String> expectedTypes;
+  private static ExecutorService threads;
+
+  @BeforeAll
+  static void setup() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFCellStyle[] styles = new HSSFCellStyle[FORMATS.length];
+    for (int format = 0; format < FORMATS.length; format++) {
+      styles[format] = workbook.createCellStyle();
+      styles[format].setDataFormat(workbook.createDataFormat().getFormat(FORMATS[format]));
+    }
+    HSSFSheet sheet = workbook.createSheet("Cars");
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      HSSFRow row = sheet.createRow(rowIndex);
+      row.createCell(0).setCellValue("Producer " + rowIndex % 10);
+      // every row formats its type with another format than the row before
+      row.createCell(1).setCellValue(40_000 + rowIndex * 1.25);
+      row.getCell(1).setCellStyle(styles[rowIndex % FORMATS.length]);
+      row.createCell(2).setCellValue(2000 + rowIndex % 20);
+      row.createCell(3).setCellValue(rowIndex * 100);
+    }
+    parselo = Parselo.of(workbook);
+
+    DataFormatter formatter = new DataFormatter();
+    expectedTypes = new ArrayList<>(ROWS);
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      expectedTypes.add(formatter.formatCellValue(sheet.getRow(rowIndex).getCell(1)));
+    }
+    threads = Executors.newFixedThreadPool(THREADS);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    threads.shutdownNow();
+  }
+
+  @Test
+  void parse_fromManyThreads_returnsSameObjectsAsSequentialParse() throws Exception {
+    List<List<String>> results = hammer(() -> types(parselo.parse("Cars", DynamicCar.class, CARS)));
+
+    assertThat(results).hasSize(THREADS * ITERATIONS).containsOnly(expectedTypes);
+  }
+
+  @Test
+  void parseList_fromManyThreads_returnsSameValuesAsDataFormatter() throws Exception {
+    List<List<String>> results = hammer(() -> parselo.parseList("Cars", CellConverters.TO_STRING, TYPES));
+
+    assertThat(results).hasSize(THREADS * ITERATIONS).containsOnly(expectedTypes);
+  }
+
+  @Test
+  void parallelParse_fromManyThreads_returnsSameObjectsAsSequentialParse() throws Exception {
+    Parselo parallel = parselo.parallel();
+
+    List<List<String>> results = hammer(() -> types(parallel.parse("Cars", DynamicCar.class, CARS)));
+
+    assertThat(results).hasSize(THREADS * ITERATIONS).containsOnly(expectedTypes);
+  }
+
+  @Test
+  void sharedConverter_fromManyThreads_returnsSameValuesAsDataFormatter() throws Exception {
+    List<List<String>> results = hammer(() -> parselo.stream("Cars", CellConverters.TO_STRING, TYPES)
+        .collect(Collectors.toList()));
+
+    assertThat(results).hasSize(THREADS * ITERATIONS).containsOnly(expectedTypes);
+  }
+
+  //---------------------------------------------------------------
+  private static List<String> types(List<DynamicCar> cars) {
+    return cars.stream().map(DynamicCar::getType).collect(Collectors.toList());
+  }
+
+  // Runs the parse repeatedly on all the threads at once, returning every result
+  private static <R> List<R> hammer(Callable<R> parse) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<List<R>>> tasks = new ArrayList<>(THREADS);
+    for (int thread = 0; thread < THREADS; thread++) {
+      tasks.add(threads.submit(() -> {
+        start.await();
+        List<R> results = new ArrayList<>(ITERATIONS);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+          results.add(parse.call());
+        }
+        return results;
+      }));
+    }
+    start.countDown();
+    List<R> results = new ArrayList<>(THREADS * ITERATIONS);
+    for (Future<List<R>> task : tasks) {
+      results.addAll(task.get());
+    }
+    return results;
+  }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import com.parselo.examples.DynamicCar;
+import com.parselo.examples.PrimitiveCar;
 
 public class ParseloDynamicAnnotationTest {
 
@@ -63,4 +64,30 @@ public class ParseloDynamicAnnotationTest {
     assertThat(ford.getYear()).isEqualTo(2001);
     assertThat(ford.getMilleage()).isEqualTo(1);
   }
+
+  @Test
+  public void parsePrimitiveCar_withMissingCells_takesConverterDefaults() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(10)
+        .rowEnd(11)
+        .columnStart("C")
+        .columnEnd("F")
+        .build();
+
+    List<PrimitiveCar> cars = parselo.parse("Cars", PrimitiveCar.class, spec);
+
+    assertThat(cars).hasSize(2);
+
+    PrimitiveCar mercedes = cars.get(0);
+    assertThat(mercedes.getType()).isNull();
+    assertThat(mercedes.getYear()).isEqualTo(2000);
+    assertThat(mercedes.getMilleage()).isEqualTo(0L);
+    assertThat(mercedes.getPrice()).isNaN();
+
+    PrimitiveCar ford = cars.get(1);
+    assertThat(ford.getType()).isEqualTo("Fiesta");
+    assertThat(ford.getYear()).isEqualTo(2001);
+    assertThat(ford.getMilleage()).isEqualTo(1L);
+    assertThat(ford.getPrice()).isNaN();
+  }
 }
@@ -0,0 +1,122 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+import com.parselo.examples.MappedCar;
+import com.parselo.examples.MappedDynamicCar;
+import com.parselo.examples.NoFieldAnnotation;
+import com.parselo.examples.PrimitiveCar;
+import com.parselo.examples.PrivatePrimitiveCar;
+
+class ParseloGeneratedMapperTest {
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    parselo = Parselo.of("annotation_examples.xls");
+  }
+
+  @Test
+  void processor_withPackagePrivateFields_generatesMapper() throws Exception {
+    Class<?> mapperClass = Class.forName(MappedCar.class.getName() + ParseloMapper.SUFFIX);
+
+    ParseloMapper<?> mapper = (ParseloMapper<?>) mapperClass.getConstructor().newInstance();
+    assertThat(mapper.getConfigurationType()).isEqualTo(ConfigurationType.STATIC);
+    assertThat(mapper.getSpec()).isEqualTo(new ParseloAnnotationParser().staticMapping(Car.class).getSpec());
+    assertThat(mapper.getFieldTypes()).containsExactly(String.class, String.class, Integer.class, Double.class);
+  }
+
+  @Test
+  void processor_withPrivateFieldsWithSetters_generatesMapper() throws Exception {
+    Class<?> mapperClass = Class.forName(PrivatePrimitiveCar.class.getName() + ParseloMapper.SUFFIX);
+
+    ParseloMapper<?> mapper = (ParseloMapper<?>) mapperClass.getConstructor().newInstance();
+    assertThat(mapper.getMappedType()).isEqualTo(PrivatePrimitiveCar.class);
+    assertThat(mapper.getFieldTypes()).containsExactly(String.class, int.class, long.class, double.class);
+  }
+
+  @Test
+  void processor_withPrivateFieldsWithoutSetters_generatesNoMapper() {
+    assertThatThrownBy(() -> Class.forName(Car.class.getName() + ParseloMapper.SUFFIX))
+        .isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  void serviceLoader_listsGeneratedMappers() {
+    List<Class<?>> mappedTypes = new ArrayList<>();
+    ServiceLoader.load(ParseloMapper.class).forEach(mapper -> mappedTypes.add(mapper.getMappedType()));
+
+    assertThat(mappedTypes)
+        .contains(MappedCar.class, MappedDynamicCar.class, PrivatePrimitiveCar.class)
+        .doesNotContain(Car.class, NoFieldAnnotation.class);
+  }
+
+  @Test
+  void processor_withoutAnnotatedFields_generatesNoMapper() {
+    assertThatThrownBy(() -> Class.forName(NoFieldAnnotation.class.getName() + ParseloMapper.SUFFIX))
+        .isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  void parse_withGeneratedStaticMapper_returnsSameCarsAsReflectiveParse() {
+    List<MappedCar> mappedCars = parselo.parse("Cars", MappedCar.class);
+    List<Car> cars = parselo.parse("Cars", Car.class);
+
+    assertThat(mappedCars).hasSize(3);
+    for (int i = 0; i < cars.size(); i++) {
+      assertThat(mappedCars.get(i)).isEqualToComparingFieldByField(cars.get(i));
+    }
+  }
+
+  @Test
+  void parse_withGeneratedDynamicMapper_returnsSameCarsAsReflectiveParse() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(3)
+        .rowEnd(5)
+        .columnStart("B")
+        .columnEnd("E")
+        .build();
+
+    List<MappedDynamicCar> mappedCars = parselo.parse("Cars", MappedDynamicCar.class, spec);
+    List<DynamicCar> cars = parselo.parse("Cars", DynamicCar.class, spec);
+
+    assertThat(mappedCars).hasSize(3);
+    for (int i = 0; i < cars.size(); i++) {
+      assertThat(mappedCars.get(i)).isEqualToComparingFieldByField(cars.get(i));
+    }
+  }
+
+  @Test
+  void parse_privateFieldsWithSetters_assignsLikePackagePrivateFields() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(10)
+        .rowEnd(11)
+        .columnStart("C")
+        .columnEnd("F")
+        .build();
+
+    List<PrivatePrimitiveCar> privateCars = parselo.parse("Cars", PrivatePrimitiveCar.class, spec);
+    List<PrimitiveCar> cars = parselo.parse("Cars", PrimitiveCar.class, spec);
+
+    assertThat(privateCars).hasSize(2);
+    for (int i = 0; i < cars.size(); i++) {
+      assertThat(privateCars.get(i).getType()).isEqualTo(cars.get(i).getType());
+      assertThat(privateCars.get(i).getYear()).isEqualTo(cars.get(i).getYear());
+      assertThat(privateCars.get(i).getMilleage()).isEqualTo(cars.get(i).getMilleage());
+      assertThat(privateCars.get(i).getPrice()).isEqualTo(cars.get(i).getPrice());
+    }
+    assertThat(privateCars.get(1).getYear()).isEqualTo(2001);
+    assertThat(privateCars.get(1).getPrice()).isNaN();
+  }
+}
@@ -0,0 +1,139 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+
+class ParseloInternStringsTest {
+
+  private static final int ROWS = 90;
+
+  private static final String[] PRODUCERS = {"Opel", "BMW", "Mercedes"};
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("A")
+      .columnEnd("D")
+      .build();
+
+  private static final ParseloSpec TYPE_COLUMN = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("B")
+      .columnEnd("B")
+      .build();
+
+  private static final ParseloSpec PRODUCER_COLUMN = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("A")
+      .columnEnd("A")
+      .build();
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Cars");
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      HSSFRow row = sheet.createRow(rowIndex);
+      row.createCell(0).setCellValue(PRODUCERS[rowIndex % PRODUCERS.length]);
+      // numeric type codes, formatted into a new string for every cell
+      row.createCell(1).setCellValue(rowIndex % 2);
+      row.createCell(2).setCellValue(2000 + rowIndex);
+      row.createCell(3).setCellValue(1000 * rowIndex);
+    }
+    parselo = Parselo.of(workbook);
+  }
+
+  @Test
+  void parse_withoutInterning_keepsStringOfEveryCell() {
+    List<DynamicCar> cars = parselo.parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars.get(2).getType()).isEqualTo("0").isNotSameAs(cars.get(0).getType());
+  }
+
+  @Test
+  void parse_internStrings_sharesEqualStrings() {
+    List<DynamicCar> cars = parselo.internStrings().parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars).hasSize(ROWS);
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      assertThat(cars.get(rowIndex).getType()).isSameAs(cars.get(rowIndex % 2).getType());
+      assertThat(cars.get(rowIndex).getProducer()).isSameAs(cars.get(rowIndex % PRODUCERS.length).getProducer());
+    }
+  }
+
+  @Test
+  void parse_internStrings_holdsDictionaryPerParse() {
+    Parselo interning = parselo.internStrings();
+
+    List<DynamicCar> cars = interning.parse("Cars", DynamicCar.class, CARS);
+    List<String> types = interning.parseList("Cars", CellConverters.TO_STRING, TYPE_COLUMN);
+
+    assertThat(types.get(0)).isEqualTo(cars.get(0).getType()).isNotSameAs(cars.get(0).getType());
+    assertThat(types.get(3)).isEqualTo(cars.get(1).getType()).isNotSameAs(cars.get(1).getType());
+  }
+
+  @Test
+  void parseList_internStrings_sharesStringsOfCustomConverter() {
+    CellConverter<String> lowerCase = new CellConverter<String>() {
+      @Override
+      public String convert(HSSFCell cell) {
+        return cell.getStringCellValue().toLowerCase(Locale.ROOT);
+      }
+
+      @Override
+      public String getDefault() {
+        return "";
+      }
+    };
+
+    List<String> producers = parselo.internStrings().parseList("Cars", lowerCase, PRODUCER_COLUMN);
+
+    assertThat(producers.get(PRODUCERS.length)).isEqualTo("opel").isSameAs(producers.get(0));
+    assertThat(parselo.parseList("Cars", lowerCase, PRODUCER_COLUMN).get(PRODUCERS.length))
+        .isNotSameAs(producers.get(0));
+  }
+
+  @Test
+  void parseMatrix_internStrings_sharesEqualStrings() {
+    ParseloMatrix<String> cells = parselo.internStrings().parseMatrix("Cars", CellConverters.TO_STRING, CARS);
+
+    assertThat(cells.getElement(2, 1)).isSameAs(cells.getElement(0, 1));
+    assertThat(cells.getElement(ROWS - 1, 1)).isSameAs(cells.getElement(1, 1));
+  }
+
+  @Test
+  void parseInts_internStrings_keepsPrimitiveConverter() {
+    int[] years = parselo.internStrings().parseInts("Cars", CellConverters.TO_INTEGER, ParseloSpec.builder()
+        .rowStart(1)
+        .rowEnd(ROWS)
+        .columnStart("C")
+        .columnEnd("C")
+        .build());
+
+    assertThat(years).hasSize(ROWS).startsWith(2000, 2001, 2002);
+  }
+
+  @Test
+  void streamingParse_internStrings_returnsSameCars() {
+    StreamingParselo streaming = Parselo.streamingXlsx("annotation_examples.xlsx");
+
+    assertThat(streaming.internStrings().parse("Cars", Car.class)).usingFieldByFieldElementComparator()
+        .isEqualTo(streaming.parse("Cars", Car.class));
+  }
+}
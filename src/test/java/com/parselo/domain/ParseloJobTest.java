@@ -0,0 +1,89 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+import com.parselo.examples.Phone;
+
+class ParseloJobTest {
+
+  private static final ParseloSpec INCOMPLETE_CARS = ParseloSpec.builder()
+      .rowStart(10)
+      .rowEnd(11)
+      .columnStart("B")
+      .columnEnd("E")
+      .build();
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    parselo = Parselo.of("annotation_examples.xls");
+  }
+
+  @Test
+  void parseAll_withJobsOnSeveralSheets_returnsResultOfEachJob() {
+    ParseloJob<List<Car>> cars = ParseloJob.parse("Cars", Car.class);
+    ParseloJob<List<Phone>> phones = ParseloJob.parse("Phones", Phone.class);
+    ParseloJob<List<DynamicCar>> incompleteCars = ParseloJob.parse("Cars", DynamicCar.class, INCOMPLETE_CARS);
+
+    ParseloResults results = parselo.parseAll(ImmutableList.of(cars, phones, incompleteCars), 2);
+
+    assertThat(results.size()).isEqualTo(3);
+    assertThat(results.get(cars)).usingFieldByFieldElementComparator()
+        .isEqualTo(parselo.parse("Cars", Car.class));
+    assertThat(results.get(phones)).usingFieldByFieldElementComparator()
+        .isEqualTo(parselo.parse("Phones", Phone.class));
+    assertThat(results.get(incompleteCars)).usingFieldByFieldElementComparator()
+        .isEqualTo(parselo.parse("Cars", DynamicCar.class, INCOMPLETE_CARS));
+  }
+
+  @Test
+  void parseAsync_onExecutor_completesWithParsedList() throws Exception {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(3)
+        .rowEnd(5)
+        .columnStart("B")
+        .columnEnd("B")
+        .build();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      List<String> producers = parselo.parseAsync(
+          ParseloJob.parseList("Cars", CellConverters.TO_STRING, spec), executor).get();
+
+      assertThat(producers).containsExactly("Opel", "BMW", "Mercedes");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void parseAll_withUnknownSheet_throwsException() {
+    List<ParseloJob<List<Car>>> jobs = ImmutableList.of(
+        ParseloJob.parse("Cars", Car.class),
+        ParseloJob.parse("Trucks", Car.class));
+
+    assertThatThrownBy(() -> parselo.parseAll(jobs, 4))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("No sheet found for name: Trucks");
+  }
+
+  @Test
+  void get_withJobNotRun_throwsException() {
+    ParseloResults results = parselo.parseAll(ImmutableList.of(ParseloJob.parse("Cars", Car.class)), 1);
+
+    assertThatThrownBy(() -> results.get(ParseloJob.parse("Cars", Car.class)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("No result found for job");
+  }
+}
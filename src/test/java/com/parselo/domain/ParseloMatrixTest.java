@@ -0,0 +1,122 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+
+class ParseloMatrixTest {
+
+  private static final ParseloMatrix<String> MATRIX = ParseloMatrix.of(3, 2, (row, column) -> row + ":" + column);
+
+  @Test
+  void getElement_returnsValueAtRowAndColumn() {
+    assertThat(MATRIX.rowCount()).isEqualTo(3);
+    assertThat(MATRIX.columnCount()).isEqualTo(2);
+    assertThat(MATRIX.getElement(0, 0)).isEqualTo("0:0");
+    assertThat(MATRIX.getElement(2, 1)).isEqualTo("2:1");
+  }
+
+  @Test
+  void getElement_outOfBounds_throwsException() {
+    assertThatThrownBy(() -> MATRIX.getElement(3, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> MATRIX.getElement(0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> MATRIX.getRow(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void getRow_returnsReadOnlyView() {
+    List<String> row = MATRIX.getRow(1);
+
+    assertThat(row).containsExactly("1:0", "1:1");
+    assertThat(row).isEqualTo(ImmutableList.of("1:0", "1:1"));
+    assertThatThrownBy(() -> row.set(0, "changed")).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> row.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void getRows_returnsAllRows() {
+    assertThat(MATRIX.getRows()).isEqualTo(ImmutableList.of(
+        ImmutableList.of("0:0", "0:1"),
+        ImmutableList.of("1:0", "1:1"),
+        ImmutableList.of("2:0", "2:1")));
+  }
+
+  @Test
+  void builder_sameRows_isEqualToMatrix() {
+    ParseloMatrix<String> built = ParseloMatrix.<String>builder().rows(MATRIX.getRows()).build();
+
+    assertThat(built).isEqualTo(MATRIX);
+    assertThat(built.hashCode()).isEqualTo(MATRIX.hashCode());
+    assertThat(MATRIX.toBuilder().build()).isEqualTo(MATRIX);
+  }
+
+  @Test
+  void builder_rowsOfDifferentSizes_throwsException() {
+    ParseloMatrix.Builder<String> builder = ParseloMatrix.<String>builder()
+        .rows(ImmutableList.of("a", "b"), ImmutableList.of("c"));
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected all rows to have 2 columns but found a row with 1");
+  }
+
+  @Test
+  void columnCount_emptyMatrix_returnsZero() {
+    ParseloMatrix<String> empty = ParseloMatrix.<String>builder().build();
+
+    assertThat(empty.rowCount()).isEqualTo(0);
+    assertThat(empty.columnCount()).isEqualTo(0);
+    assertThat(empty.getRows()).isEmpty();
+  }
+
+  @Test
+  void getColumn_returnsReadOnlyView() {
+    List<String> column = MATRIX.getColumn(1);
+
+    assertThat(column).containsExactly("0:1", "1:1", "2:1");
+    assertThatThrownBy(() -> column.add("changed")).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> MATRIX.getColumn(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void transpose_swapsRowsAndColumns() {
+    ParseloMatrix<String> transposed = MATRIX.transpose();
+
+    assertThat(transposed.rowCount()).isEqualTo(2);
+    assertThat(transposed.columnCount()).isEqualTo(3);
+    assertThat(transposed.getRow(1)).containsExactly("0:1", "1:1", "2:1");
+    assertThat(transposed.getElement(0, 2)).isEqualTo("2:0");
+    assertThat(transposed.transpose()).isEqualTo(MATRIX);
+  }
+
+  @Test
+  void subMatrix_returnsRegion() {
+    ParseloMatrix<String> region = MATRIX.subMatrix(1, 3, 1, 2);
+
+    assertThat(region.getRows()).isEqualTo(ImmutableList.of(
+        ImmutableList.of("1:1"),
+        ImmutableList.of("2:1")));
+    assertThat(MATRIX.subMatrix(0, 3, 0, 2)).isEqualTo(MATRIX);
+    assertThat(MATRIX.subMatrix(1, 1, 0, 2).rowCount()).isZero();
+  }
+
+  @Test
+  void subMatrix_ofTransposedRegion_composesViews() {
+    ParseloMatrix<String> region = MATRIX.subMatrix(1, 3, 0, 2).transpose().subMatrix(1, 2, 0, 2);
+
+    assertThat(region.getRows()).isEqualTo(ImmutableList.of(ImmutableList.of("1:1", "2:1")));
+    assertThat(region.transpose().getColumn(0)).containsExactly("1:1", "2:1");
+  }
+
+  @Test
+  void subMatrix_outOfBounds_throwsException() {
+    assertThatThrownBy(() -> MATRIX.subMatrix(0, 4, 0, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> MATRIX.subMatrix(2, 1, 0, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> MATRIX.subMatrix(0, 1, -1, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
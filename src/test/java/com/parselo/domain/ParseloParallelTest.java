@@ -0,0 +1,89 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.DynamicCar;
+
+class ParseloParallelTest {
+
+  private static final int ROWS = 5_000;
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("A")
+      .columnEnd("D")
+      .build();
+
+  private static Parselo parselo;
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void setup() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Cars");
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      HSSFRow row = sheet.createRow(rowIndex);
+      row.createCell(0).setCellValue("Producer " + rowIndex);
+      if (rowIndex % 7 != 0) {
+        row.createCell(1).setCellValue("Type " + rowIndex);
+      }
+      row.createCell(2).setCellValue(1990 + rowIndex % 30);
+      row.createCell(3).setCellValue(rowIndex * 10);
+    }
+    workbook.createSheet("Broken Cars").createRow(0);
+    for (int rowIndex = 1; rowIndex < ROWS; rowIndex++) {
+      HSSFRow row = workbook.getSheet("Broken Cars").createRow(rowIndex);
+      if (rowIndex % 1_500 == 0) {
+        row.createCell(2).setCellValue("not a year");
+      } else {
+        row.createCell(2).setCellValue(2000);
+      }
+    }
+    parselo = Parselo.of(workbook);
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void parse_onCommonPool_returnsSameCarsAsSequentialParse() {
+    List<DynamicCar> cars = parselo.parallel().parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars).hasSize(ROWS);
+    assertThat(cars).usingFieldByFieldElementComparator()
+        .isEqualTo(parselo.parse("Cars", DynamicCar.class, CARS));
+  }
+
+  @Test
+  void parse_onExecutor_returnsCarsInRowOrder() {
+    List<DynamicCar> cars = parselo.parallel(executor).parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars).hasSize(ROWS);
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      assertThat(cars.get(rowIndex).getProducer()).isEqualTo("Producer " + rowIndex);
+    }
+  }
+
+  @Test
+  void parse_withInvalidCells_throwsSameExceptionAsSequentialParse() {
+    assertThatThrownBy(() -> parselo.parallel(executor).parse("Broken Cars", DynamicCar.class, CARS))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("row=1500 (zero-based index) and column=2");
+  }
+}
@@ -0,0 +1,73 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.RandomAccess;
+
+import org.junit.jupiter.api.Test;
+
+class ParseloPrimitiveArrayTest {
+
+  private static final Parselo PARSELO = Parselo.of("annotation_examples.xls");
+
+  private static final ParseloSpec YEARS = ParseloSpec.builder()
+      .rowStart(3)
+      .rowEnd(7)
+      .columnStart("D")
+      .columnEnd("D")
+      .build();
+
+  private static final ParseloSpec OPEL = ParseloSpec.builder()
+      .rowStart(3)
+      .rowEnd(3)
+      .columnStart("D")
+      .columnEnd("E")
+      .build();
+
+  @Test
+  void parseDoubles_verticalArray_returnsValuesWithDefaults() {
+    double[] years = PARSELO.parseDoubles("Cars", CellConverters.toDouble(0), YEARS);
+
+    assertThat(years).containsExactly(2010, 2008, 2015, 0, 0);
+  }
+
+  @Test
+  void parseInts_verticalArray_returnsValuesWithDefaults() {
+    int[] years = PARSELO.parseInts("Cars", CellConverters.TO_INTEGER, YEARS);
+
+    assertThat(years).containsExactly(2010, 2008, 2015, Integer.MIN_VALUE, Integer.MIN_VALUE);
+  }
+
+  @Test
+  void parseInts_skipEmptyRows_returnsFilledRowsOnly() {
+    int[] years = PARSELO.skipEmptyRows().parseInts("Cars", CellConverters.TO_INTEGER, YEARS);
+
+    assertThat(years).containsExactly(2010, 2008, 2015);
+  }
+
+  @Test
+  void parseLongs_horizontalArray_returnsValues() {
+    long[] opel = PARSELO.parseLongs("Cars", CellConverters.TO_LONG, OPEL);
+
+    assertThat(opel).containsExactly(2010L, 10000L);
+  }
+
+  @Test
+  void parseDoubles_matrixSpec_throwsException() {
+    ParseloSpec matrix = ParseloSpec.builder()
+        .rowStart(3)
+        .rowEnd(5)
+        .columnStart("D")
+        .columnEnd("E")
+        .build();
+
+    assertThatThrownBy(() -> PARSELO.parseDoubles("Cars", CellConverters.TO_DOUBLE, matrix))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void parseList_returnsRandomAccessList() {
+    assertThat(PARSELO.parseList("Cars", CellConverters.TO_INTEGER, YEARS)).isInstanceOf(RandomAccess.class);
+  }
+}
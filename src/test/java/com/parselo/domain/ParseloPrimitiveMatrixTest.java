@@ -0,0 +1,151 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import org.junit.jupiter.api.Test;
+
+class ParseloPrimitiveMatrixTest {
+
+  private static final Parselo PARSELO = Parselo.of("annotation_examples.xls");
+
+  private static final ParseloSpec YEARS_AND_MILLEAGES = ParseloSpec.builder()
+      .rowStart(3)
+      .rowEnd(5)
+      .columnStart("D")
+      .columnEnd("E")
+      .build();
+
+  @Test
+  void parseDoubleMatrix_returnsValuesRowAfterRow() {
+    DoubleMatrix matrix = PARSELO.parseDoubleMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+
+    assertThat(matrix.rowCount()).isEqualTo(3);
+    assertThat(matrix.columnCount()).isEqualTo(2);
+    assertThat(matrix.getElement(1, 1)).isEqualTo(5000d);
+    assertThat(matrix.toArray()).containsExactly(2010, 10000, 2008, 5000, 2015, 50000);
+    assertThat(matrix).isEqualTo(DoubleMatrix.of(3, 2, 2010, 10000, 2008, 5000, 2015, 50000));
+  }
+
+  @Test
+  void parseDoubleMatrix_sameValuesAsBoxedMatrix() {
+    ParseloMatrix<Double> boxed = PARSELO.parseMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+    DoubleMatrix matrix = PARSELO.parseDoubleMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+
+    for (int row = 0; row < boxed.rowCount(); row++) {
+      for (int column = 0; column < boxed.columnCount(); column++) {
+        assertThat(matrix.getElement(row, column)).isEqualTo(boxed.getElement(row, column));
+      }
+    }
+  }
+
+  @Test
+  void doubleMatrix_rowAndColumnViews() {
+    DoubleMatrix matrix = PARSELO.parseDoubleMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+
+    assertThat(matrix.getRow(2).toArray()).containsExactly(2015, 50000);
+    assertThat(matrix.getColumn(1).toArray()).containsExactly(10000, 5000, 50000);
+    assertThat(matrix.getColumn(0).stream().sum()).isEqualTo(6033d);
+    assertThatThrownBy(() -> matrix.getColumn(0).get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void doubleMatrix_copyInto_copiesValuesFromOffset() {
+    DoubleMatrix matrix = PARSELO.parseDoubleMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+    double[] target = new double[10];
+
+    matrix.copyInto(target, 1);
+    matrix.getColumn(0).copyInto(target, 7);
+
+    assertThat(target).containsExactly(0, 2010, 10000, 2008, 5000, 2015, 50000, 2010, 2008, 2015);
+    assertThatThrownBy(() -> matrix.copyInto(new double[5])).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void parseIntMatrix_returnsValuesRowAfterRow() {
+    IntMatrix matrix = PARSELO.parseIntMatrix("Cars", CellConverters.TO_INTEGER, YEARS_AND_MILLEAGES);
+
+    assertThat(matrix.toArray()).containsExactly(2010, 10000, 2008, 5000, 2015, 50000);
+    assertThat(matrix.getRow(0).toArray()).containsExactly(2010, 10000);
+    assertThat(matrix.getColumn(0).toArray()).containsExactly(2010, 2008, 2015);
+    assertThat(matrix.stream().max().getAsInt()).isEqualTo(50000);
+  }
+
+  @Test
+  void parseIntMatrix_missingCells_returnsDefault() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(5)
+        .rowEnd(6)
+        .columnStart("D")
+        .columnEnd("D")
+        .build();
+
+    IntMatrix matrix = PARSELO.parseIntMatrix("Cars", CellConverters.toInteger(-1), spec);
+
+    assertThat(matrix.toArray()).containsExactly(2015, -1);
+  }
+
+  @Test
+  void parseOffHeapMatrix_sameValuesAsDoubleMatrix() {
+    DoubleMatrix expected = PARSELO.parseDoubleMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+
+    try (OffHeapDoubleMatrix matrix =
+        PARSELO.parseOffHeapMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES)) {
+      assertThat(matrix.rowCount()).isEqualTo(3);
+      assertThat(matrix.columnCount()).isEqualTo(2);
+      assertThat(matrix.getElement(2, 1)).isEqualTo(50000d);
+
+      double[] values = new double[6];
+      matrix.copyInto(values, 0);
+      assertThat(values).containsExactly(expected.toArray());
+    }
+  }
+
+  @Test
+  void parseOffHeapMatrix_copyIntoDirectBuffer() {
+    DoubleBuffer target = ByteBuffer.allocateDirect(8 * Double.BYTES).asDoubleBuffer();
+    target.put(-1);
+
+    try (OffHeapDoubleMatrix matrix =
+        PARSELO.parseOffHeapMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES)) {
+      matrix.copyInto(target);
+    }
+
+    assertThat(target.position()).isEqualTo(7);
+    assertThat(target.get(0)).isEqualTo(-1d);
+    assertThat(target.get(6)).isEqualTo(50000d);
+  }
+
+  @Test
+  void offHeapMatrix_closed_failsReads() {
+    OffHeapDoubleMatrix matrix = PARSELO.parseOffHeapMatrix("Cars", CellConverters.TO_DOUBLE, YEARS_AND_MILLEAGES);
+
+    matrix.close();
+    matrix.close();
+
+    assertThat(matrix.isClosed()).isTrue();
+    assertThatThrownBy(() -> matrix.getElement(0, 0))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Matrix has been closed");
+    assertThatThrownBy(() -> matrix.copyInto(new double[6], 0)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void offHeapMatrix_close_freesDirectMemory() {
+    BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+        .filter(pool -> pool.getName().equals("direct"))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+    OffHeapDoubleMatrix matrix = OffHeapDoubleMatrix.allocate(1024, 1024);
+    long allocated = direct.getMemoryUsed();
+
+    matrix.close();
+
+    assertThat(direct.getMemoryUsed()).isLessThanOrEqualTo(allocated - 1024 * 1024 * Double.BYTES);
+  }
+}
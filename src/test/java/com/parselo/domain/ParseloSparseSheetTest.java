@@ -0,0 +1,267 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.parselo.examples.DynamicCar;
+
+class ParseloSparseSheetTest {
+
+  private static final int ROWS = 60_000;
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("A")
+      .columnEnd("D")
+      .build();
+
+  private static final ParseloSpec YEARS = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("C")
+      .columnEnd("C")
+      .build();
+
+  private static final ParseloSpec YEARS_AND_MILLEAGES = ParseloSpec.builder()
+      .rowStart(2)
+      .rowEnd(8)
+      .columnStart("C")
+      .columnEnd("D")
+      .build();
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Cars");
+    createCar(sheet, 0, "Opel", 2010);
+    createCar(sheet, 4, "BMW", 2008);
+    // a row with cells outside of the parsed columns only
+    sheet.createRow(6).createCell(10).setCellValue("note");
+    createCar(sheet, ROWS - 1, "Mercedes", 2015);
+    parselo = Parselo.of(workbook);
+  }
+
+  @Test
+  void parse_sparseSheet_fillsMissingRowsWithEmptyObjects() {
+    List<DynamicCar> cars = parselo.parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars).hasSize(ROWS);
+    assertThat(cars.get(0).getProducer()).isEqualTo("Opel");
+    assertThat(cars.get(1).getProducer()).isNull();
+    assertThat(cars.get(4).getProducer()).isEqualTo("BMW");
+    assertThat(cars.get(6).getYear()).isNull();
+    assertThat(cars.get(ROWS - 1).getProducer()).isEqualTo("Mercedes");
+  }
+
+  @Test
+  void parse_skipEmptyRows_returnsFilledRowsOnly() {
+    List<DynamicCar> cars = parselo.skipEmptyRows().parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars).extracting(DynamicCar::getProducer).containsExactly("Opel", "BMW", "Mercedes");
+    assertThat(cars).extracting(DynamicCar::getYear).containsExactly(2010, 2008, 2015);
+  }
+
+  @Test
+  void parse_skipEmptyRowsInParallel_returnsFilledRowsInOrder() {
+    List<DynamicCar> cars = parselo.skipEmptyRows().parallel().parse("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars).extracting(DynamicCar::getProducer).containsExactly("Opel", "BMW", "Mercedes");
+  }
+
+  @Test
+  void stream_skipEmptyRows_returnsFilledRowsOnly() {
+    List<String> producers = parselo.skipEmptyRows().stream("Cars", DynamicCar.class, CARS)
+        .map(DynamicCar::getProducer)
+        .collect(Collectors.toList());
+
+    assertThat(producers).containsExactly("Opel", "BMW", "Mercedes");
+  }
+
+  @Test
+  void parseBatches_skipEmptyRows_acceptsFilledRowsOnly() {
+    List<String> producers = new ArrayList<>();
+    int parsed = parselo.skipEmptyRows().parse("Cars", DynamicCar.class, CARS, 2,
+        BatchSink.of(batch -> batch.forEach(car -> producers.add(car.getProducer()))));
+
+    assertThat(parsed).isEqualTo(3);
+    assertThat(producers).containsExactly("Opel", "BMW", "Mercedes");
+  }
+
+  @Test
+  void parseList_sparseSheet_fillsMissingRowsWithDefaults() {
+    List<Integer> years = parselo.parseList("Cars", CellConverters.toInteger(-1), YEARS);
+
+    assertThat(years).hasSize(ROWS);
+    assertThat(years.get(0)).isEqualTo(2010);
+    assertThat(years.get(1)).isEqualTo(-1);
+    assertThat(years.get(ROWS - 1)).isEqualTo(2015);
+  }
+
+  @Test
+  void parseList_skipEmptyRows_returnsFilledRowsOnly() {
+    List<Integer> years = parselo.skipEmptyRows().parseList("Cars", CellConverters.TO_INTEGER, YEARS);
+
+    assertThat(years).containsExactly(2010, 2008, 2015);
+  }
+
+  @Test
+  void parseMatrix_sparseSheet_fillsMissingRowsWithDefaults() {
+    ParseloMatrix<Integer> matrix = parselo.parseMatrix("Cars", CellConverters.toInteger(-1), YEARS_AND_MILLEAGES);
+
+    assertThat(matrix.rowCount()).isEqualTo(7);
+    assertThat(matrix.getRow(0)).isEqualTo(ImmutableList.of(-1, -1));
+    assertThat(matrix.getRow(3)).isEqualTo(ImmutableList.of(2008, 80000));
+    assertThat(matrix.getRow(5)).isEqualTo(ImmutableList.of(-1, -1));
+  }
+
+  @Test
+  void parseMatrix_skipEmptyRows_returnsFilledRowsOnly() {
+    ParseloMatrix<Integer> matrix = parselo.skipEmptyRows()
+        .parseMatrix("Cars", CellConverters.TO_INTEGER, YEARS_AND_MILLEAGES);
+
+    assertThat(matrix.getRows()).isEqualTo(ImmutableList.of(ImmutableList.of(2008, 80000)));
+  }
+
+  @Test
+  void parseMatrix_mostlyEmptyArea_returnsSparseMatrix() {
+    ParseloMatrix<String> matrix = parselo.parseMatrix("Cars", CellConverters.TO_STRING, CARS);
+
+    assertThat(matrix.isSparse()).isTrue();
+    assertThat(matrix.rowCount()).isEqualTo(ROWS);
+    assertThat(matrix.columnCount()).isEqualTo(4);
+    assertThat(matrix.getRow(4)).containsExactly("BMW", "Type", "2008", "80000");
+    assertThat(matrix.getElement(5, 0)).isEqualTo("");
+    assertThat(matrix.getElement(ROWS - 1, 0)).isEqualTo("Mercedes");
+  }
+
+  @Test
+  void parseSparseMatrix_sameValuesAsDenseMatrix() {
+    ParseloSpec filled = ParseloSpec.builder()
+        .rowStart(1)
+        .rowEnd(5)
+        .columnStart("A")
+        .columnEnd("D")
+        .build();
+
+    ParseloMatrix<String> dense = parselo.parseMatrix("Cars", CellConverters.TO_STRING, filled);
+    ParseloMatrix<String> sparse = parselo.parseSparseMatrix("Cars", CellConverters.TO_STRING, filled);
+
+    assertThat(dense.isSparse()).isFalse();
+    assertThat(sparse.isSparse()).isTrue();
+    assertThat(sparse).isEqualTo(dense);
+    assertThat(sparse.hashCode()).isEqualTo(dense.hashCode());
+    assertThat(sparse.getRows()).isEqualTo(dense.getRows());
+  }
+
+  @Test
+  void parseMatrix_blankCellOrNullConversion_returnsDefault() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFRow row = workbook.createSheet("Dates").createRow(0);
+    row.createCell(0).setCellValue(43000);
+    row.createCell(1).setCellStyle(workbook.createCellStyle());
+    row.createCell(2).setCellValue("none");
+    ParseloSpec dates = ParseloSpec.builder()
+        .rowStart(1)
+        .rowEnd(1)
+        .columnStart("A")
+        .columnEnd("B")
+        .build();
+    ParseloSpec cells = dates.toBuilder().columnEnd("C").build();
+    CellConverter<String> nullConverter = new CellConverter<String>() {
+      @Override
+      public String convert(HSSFCell cell) {
+        return null;
+      }
+
+      @Override
+      public String getDefault() {
+        return "default";
+      }
+    };
+    Parselo datesParselo = Parselo.of(workbook);
+
+    for (boolean sparse : new boolean[] {false, true}) {
+      ParseloMatrix<LocalDate> matrix = sparse
+          ? datesParselo.parseSparseMatrix("Dates", CellConverters.TO_LOCAL_DATE, dates)
+          : datesParselo.parseMatrix("Dates", CellConverters.TO_LOCAL_DATE, dates);
+      ParseloMatrix<String> strings = sparse
+          ? datesParselo.parseSparseMatrix("Dates", nullConverter, cells)
+          : datesParselo.parseMatrix("Dates", nullConverter, cells);
+
+      assertThat(matrix.getElement(0, 1))
+          .isEqualTo(CellConverters.TO_LOCAL_DATE.getDefault())
+          .isEqualTo(datesParselo.parseList("Dates", CellConverters.TO_LOCAL_DATE, dates).get(1));
+      assertThat(strings.getRow(0)).containsExactly("default", "default", "default");
+    }
+  }
+
+  @Test
+  void parseLazyMatrix_convertsCellsWhenFirstRead() {
+    AtomicInteger conversions = new AtomicInteger();
+    CellConverter<String> countingConverter = new CellConverter<String>() {
+      @Override
+      public String convert(HSSFCell cell) {
+        conversions.incrementAndGet();
+        return CellConverters.TO_STRING.convert(cell);
+      }
+
+      @Override
+      public String getDefault() {
+        conversions.incrementAndGet();
+        return "";
+      }
+    };
+
+    ParseloMatrix<String> matrix = parselo.parseLazyMatrix("Cars", countingConverter, CARS);
+
+    assertThat(conversions.get()).isZero();
+    assertThat(matrix.getElement(ROWS - 1, 0)).isEqualTo("Mercedes");
+    assertThat(matrix.getElement(ROWS - 1, 0)).isEqualTo("Mercedes");
+    assertThat(matrix.getElement(5, 0)).isEqualTo("");
+    assertThat(conversions.get()).isEqualTo(2);
+    assertThat(matrix.getRow(4)).containsExactly("BMW", "Type", "2008", "80000");
+    assertThat(conversions.get()).isEqualTo(6);
+  }
+
+  @Test
+  void parseLazyMatrix_bulkRead_convertsWholeArea() {
+    ParseloSpec filled = ParseloSpec.builder()
+        .rowStart(1)
+        .rowEnd(8)
+        .columnStart("A")
+        .columnEnd("D")
+        .build();
+
+    ParseloMatrix<String> lazy = parselo.parseLazyMatrix("Cars", CellConverters.TO_STRING, filled);
+
+    assertThat(lazy).isEqualTo(parselo.parseMatrix("Cars", CellConverters.TO_STRING, filled));
+    assertThat(lazy.getRows()).isEqualTo(parselo.parseMatrix("Cars", CellConverters.TO_STRING, filled).getRows());
+    assertThat(parselo.skipEmptyRows().parseLazyMatrix("Cars", CellConverters.TO_STRING, filled).getRows())
+        .isEqualTo(parselo.skipEmptyRows().parseMatrix("Cars", CellConverters.TO_STRING, filled).getRows());
+  }
+
+  //--------------------------------------------------------------------
+  private static void createCar(HSSFSheet sheet, int rowIndex, String producer, int year) {
+    HSSFRow row = sheet.createRow(rowIndex);
+    row.createCell(0).setCellValue(producer);
+    row.createCell(1).setCellValue("Type");
+    row.createCell(2).setCellValue(year);
+    row.createCell(3).setCellValue(20_000 * rowIndex);
+  }
+}
@@ -56,4 +56,12 @@ class ParseloStaticAnnotationTest {
     assertThat(onePlus.getBoughtOn()).isEqualTo(LocalDate.of(2019, 3, 4));
   }
 
+  @Test
+  void parse_calledTwice_reusesCompiledMappingAndReturnsSameCars() {
+    ParseloAnnotationParser annotationParser = new ParseloAnnotationParser();
+    assertThat(annotationParser.staticMapping(Car.class)).isSameAs(annotationParser.staticMapping(Car.class));
+
+    assertThat(parselo.parse("Cars", Car.class)).usingFieldByFieldElementComparator()
+        .isEqualTo(parselo.parse("Cars", Car.class));
+  }
 }
@@ -0,0 +1,102 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+import com.parselo.exception.InvalidConfigurationException;
+
+class ParseloStreamTest {
+
+  private static final ParseloSpec CARS = ParseloSpec.builder()
+      .rowStart(3)
+      .rowEnd(5)
+      .columnStart("B")
+      .columnEnd("E")
+      .build();
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    parselo = Parselo.of("annotation_examples.xls");
+  }
+
+  @Test
+  void stream_withAnnotatedCar_returnsSameCarsAsParse() {
+    List<Car> streamed = parselo.stream("Cars", Car.class).collect(Collectors.toList());
+
+    assertThat(streamed).usingFieldByFieldElementComparator().isEqualTo(parselo.parse("Cars", Car.class));
+  }
+
+  @Test
+  void stream_withSpec_isSizedAndSplits() {
+    Spliterator<DynamicCar> cars = parselo.stream("Cars", DynamicCar.class, CARS).spliterator();
+
+    assertThat(cars.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+    assertThat(cars.getExactSizeIfKnown()).isEqualTo(3);
+
+    Spliterator<DynamicCar> prefix = cars.trySplit();
+    assertThat(prefix.getExactSizeIfKnown()).isEqualTo(1);
+    assertThat(cars.getExactSizeIfKnown()).isEqualTo(2);
+  }
+
+  @Test
+  void stream_inParallel_returnsCarsInSheetOrder() {
+    List<String> producers = parselo.stream("Cars", DynamicCar.class, CARS)
+        .parallel()
+        .map(DynamicCar::getProducer)
+        .collect(Collectors.toList());
+
+    assertThat(producers).containsExactly("Opel", "BMW", "Mercedes");
+  }
+
+  @Test
+  void iterator_withSpec_parsesCarsOnDemand() {
+    Iterator<DynamicCar> cars = parselo.iterator("Cars", DynamicCar.class, CARS);
+
+    assertThat(cars.next().getProducer()).isEqualTo("Opel");
+    assertThat(cars.next().getProducer()).isEqualTo("BMW");
+    assertThat(cars.next().getProducer()).isEqualTo("Mercedes");
+    assertThat(cars.hasNext()).isFalse();
+  }
+
+  @Test
+  void stream_withMoreRowsThanAvailableInSheet_throwsExceptionBeforeConsuming() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(2)
+        .rowEnd(30)
+        .columnStart("A")
+        .columnEnd("D")
+        .build();
+
+    assertThatThrownBy(() -> parselo.stream("Cars", DynamicCar.class, spec))
+        .isInstanceOf(InvalidConfigurationException.class)
+        .hasMessageContaining("rows must be within the bounds");
+  }
+
+  @Test
+  void stream_withVerticalStringArray_returnsSameElementsAsParseList() {
+    Parselo strings = Parselo.of("test_examples.xls");
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(6)
+        .rowEnd(9)
+        .columnStart("B")
+        .columnEnd("B")
+        .build();
+
+    Stream<String> streamed = strings.stream("String Array", CellConverters.TO_STRING, spec);
+
+    assertThat(streamed).containsExactly("e", "f", "g", "h");
+  }
+}
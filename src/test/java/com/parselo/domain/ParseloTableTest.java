@@ -0,0 +1,137 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.CarSale;
+import com.parselo.examples.PrimitiveCar;
+
+class ParseloTableTest {
+
+  private static final int ROWS = 1_000;
+
+  private static final String[] PRODUCERS = {"Opel", "BMW", "Mercedes"};
+
+  private static final LocalDate FIRST_SALE = LocalDate.of(2018, 1, 1);
+
+  private static final ParseloSpec SALES = ParseloSpec.builder()
+      .rowStart(1)
+      .rowEnd(ROWS)
+      .columnStart("A")
+      .columnEnd("E")
+      .build();
+
+  private static Parselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    HSSFWorkbook workbook = new HSSFWorkbook();
+    HSSFSheet sheet = workbook.createSheet("Sales");
+    for (int rowIndex = 0; rowIndex < ROWS; rowIndex++) {
+      HSSFRow row = sheet.createRow(rowIndex);
+      row.createCell(0).setCellValue(PRODUCERS[rowIndex % PRODUCERS.length]);
+      LocalDate soldOn = FIRST_SALE.plusDays(rowIndex);
+      row.createCell(1).setCellValue(Date.from(soldOn.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+      if (rowIndex % 10 != 0) {
+        row.createCell(2).setCellValue(1000d * rowIndex);
+      }
+      row.createCell(3).setCellValue(2000 + rowIndex % 20);
+      row.createCell(4).setCellValue(rowIndex % 2 == 0);
+    }
+    parselo = Parselo.of(workbook);
+  }
+
+  @Test
+  void parseTable_rowsEqualToParsedObjects() {
+    ParseloTable<CarSale> table = parselo.parseTable("Sales", CarSale.class, SALES);
+    List<CarSale> sales = parselo.parse("Sales", CarSale.class, SALES);
+
+    assertThat(table.rowCount()).isEqualTo(ROWS);
+    assertThat(table.columnCount()).isEqualTo(5);
+    assertThat(table.asList()).usingFieldByFieldElementComparator().isEqualTo(sales);
+    assertThat(table.getRow(3).getSoldOn()).isEqualTo(FIRST_SALE.plusDays(3));
+    assertThat(table.getRow(10).getPrice()).isNull();
+  }
+
+  @Test
+  void parseTable_numericColumns_scanPresentValues() {
+    ParseloTable<CarSale> table = parselo.parseTable("Sales", CarSale.class, SALES);
+
+    assertThat(table.doubles(2).count()).isEqualTo(ROWS - ROWS / 10);
+    assertThat(table.ints(3).max().getAsInt()).isEqualTo(2019);
+    assertThat(table.longs(3).sum()).isEqualTo(
+        parselo.parse("Sales", CarSale.class, SALES).stream().mapToLong(CarSale::getYear).sum());
+    assertThat(table.values(4, Boolean.class).filter(electric -> electric).count()).isEqualTo(ROWS / 2);
+  }
+
+  @Test
+  void parseTable_stringColumn_holdsDistinctValuesOnce() {
+    ParseloTable<CarSale> table = parselo.parseTable("Sales", CarSale.class, SALES);
+
+    assertThat(table.getColumnType(0)).isEqualTo(String.class);
+    assertThat(table.distinctCount(0)).isEqualTo(3);
+    assertThat(table.values(0, String.class).limit(4).collect(Collectors.toList()))
+        .containsExactly("Opel", "BMW", "Mercedes", "Opel");
+    assertThat(table.get(4, 0)).isEqualTo("BMW");
+  }
+
+  @Test
+  void parseTable_dateColumn_returnsDates() {
+    ParseloTable<CarSale> table = parselo.parseTable("Sales", CarSale.class, SALES);
+
+    assertThat(table.values(1, LocalDate.class).max(LocalDate::compareTo))
+        .contains(FIRST_SALE.plusDays(ROWS - 1));
+  }
+
+  @Test
+  void parseTable_missingCells_areNotPresent() {
+    ParseloTable<CarSale> table = parselo.parseTable("Sales", CarSale.class, SALES);
+
+    assertThat(table.isPresent(10, 2)).isFalse();
+    assertThat(table.get(10, 2)).isNull();
+    assertThat(table.isPresent(11, 2)).isTrue();
+    assertThat(table.get(11, 2)).isEqualTo(11000d);
+  }
+
+  @Test
+  void parseTable_wrongColumnType_throwsException() {
+    ParseloTable<CarSale> table = parselo.parseTable("Sales", CarSale.class, SALES);
+
+    assertThatThrownBy(() -> table.ints(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Column 0 holds values of type java.lang.String, not int");
+    assertThatThrownBy(() -> table.values(2, String.class)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> table.get(0, 5)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void parseTable_primitiveFields_takeConverterDefaultsOfMissingCells() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(10)
+        .rowEnd(11)
+        .columnStart("C")
+        .columnEnd("F")
+        .build();
+
+    ParseloTable<PrimitiveCar> table = Parselo.of("annotation_examples.xls")
+        .parseTable("Cars", PrimitiveCar.class, spec);
+
+    assertThat(table.getRow(0).getPrice()).isNaN();
+    assertThat(table.getRow(1).getType()).isEqualTo("Fiesta");
+    assertThat(table.getRow(1).getMilleage()).isEqualTo(1L);
+    assertThat(table.longs(2).sum()).isEqualTo(1L);
+    assertThat(table.doubles(3).count()).isZero();
+  }
+}
@@ -3,12 +3,18 @@ package com.parselo.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import com.google.common.io.Resources;
+
 class ParseloTest {
 
   private static Parselo parselo;
@@ -23,6 +29,26 @@ class ParseloTest {
     assertThat(parselo).isNotNull();
   }
 
+  @Test
+  void parselo_fromPath_parsesSameMatrixAsWorkbookFromStream() throws Exception {
+    Path path = Paths.get(Resources.getResource("test_examples.xls").toURI());
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(2)
+        .rowEnd(4)
+        .columnStart("B")
+        .columnEnd("E")
+        .build();
+    Parselo fromStream;
+    try (InputStream in = Resources.getResource("test_examples.xls").openStream()) {
+      fromStream = Parselo.of(new HSSFWorkbook(in));
+    }
+
+    ParseloMatrix<String> parsed = Parselo.of(path).parseMatrix("String Matrix", CellConverters.TO_STRING, spec);
+
+    assertThat(parsed).isEqualTo(fromStream.parseMatrix("String Matrix", CellConverters.TO_STRING, spec));
+    assertThat(parsed.getElement(0, 0)).isNotEmpty();
+  }
+
   @Test
   void getAllSheetNames_returnsSheetNames() {
     List<String> sheetNames = parselo.getSheetNames();
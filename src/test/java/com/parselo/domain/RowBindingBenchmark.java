@@ -0,0 +1,89 @@
+package com.parselo.domain;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.parselo.examples.Car;
+
+/**
+ * Compares the reflective and the method handle {@link ObjectBinder}s, both on their own and behind a
+ * {@link RowMapping}. Run from the test classpath with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main \
+ *     -Dexec.args=RowBindingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowBindingBenchmark {
+
+  @Param({"reflection", "methodHandles"})
+  public String binding;
+
+  private ObjectBinder<Car> binder;
+  private RowMapping<Car> mapping;
+  private HSSFRow row;
+
+  @Setup
+  public void setup() throws Exception {
+    Field[] fields = {
+        Car.class.getDeclaredField("producer"),
+        Car.class.getDeclaredField("model"),
+        Car.class.getDeclaredField("year"),
+        Car.class.getDeclaredField("milleage")};
+    binder = "reflection".equals(binding)
+        ? ObjectBinder.reflection(Car.class.getConstructor(), fields)
+        : ObjectBinder.methodHandles(Car.class.getConstructor(), fields);
+
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(1)
+        .rowEnd(1)
+        .columnStart("A")
+        .columnEnd("D")
+        .build();
+    List<String> fieldNames = ImmutableList.of("producer", "model", "year", "milleage");
+    List<Class<?>> fieldTypes = ImmutableList.of(String.class, String.class, Integer.class, Double.class);
+    mapping = new RowMapping<>(spec, fieldNames, fieldTypes, binder).withConverters(ConverterRegistry.defaults());
+
+    row = new HSSFWorkbook().createSheet().createRow(0);
+    row.createCell(0).setCellValue("Opel");
+    row.createCell(1).setCellValue("Astra");
+    row.createCell(2).setCellValue(2010);
+    row.createCell(3).setCellValue(10_000);
+  }
+
+  @Benchmark
+  public Car bind() {
+    Car car = binder.newInstance();
+    binder.set(car, 0, "Opel");
+    binder.set(car, 1, "Astra");
+    binder.set(car, 2, 2010);
+    binder.set(car, 3, 10_000d);
+    return car;
+  }
+
+  @Benchmark
+  public Car mapRow() {
+    return mapping.map(row, 0, 0);
+  }
+}
@@ -0,0 +1,55 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.poi.hssf.record.common.UnicodeString;
+import org.apache.poi.hssf.usermodel.HSSFCell;
+import org.apache.poi.hssf.usermodel.HSSFRichTextString;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class ScratchRowTest {
+
+  private static final ScratchRow.FormatLookup GENERAL = new ScratchRow.FormatLookup() {
+    @Override
+    public int formatIndex(int styleIndex) {
+      return 0;
+    }
+
+    @Override
+    public String formatString(int styleIndex) {
+      return null;
+    }
+  };
+
+  @Test
+  void clear_manyDistinctStrings_keepsSharedStringTableBounded() {
+    ScratchRow scratch = new ScratchRow(false, GENERAL);
+
+    for (int rowIndex = 0; rowIndex < 200_000; rowIndex++) {
+      scratch.createCell(0, 0).setCellValue(new HSSFRichTextString("value " + rowIndex));
+      scratch.createCell(1, 0).setCellValue(rowIndex);
+      assertThat(scratch.row().getCell(0).getStringCellValue()).isEqualTo("value " + rowIndex);
+      scratch.clear();
+    }
+
+    HSSFWorkbook workbook = scratch.row().getSheet().getWorkbook();
+    assertThat(workbook.getInternalWorkbook().addSSTString(new UnicodeString("probe")))
+        .isLessThan(ScratchRow.MAX_STRINGS);
+  }
+
+  @Test
+  void clear_afterWorkbookReplaced_keepsFormatsAndDateSystem() {
+    ScratchRow scratch = new ScratchRow(true, GENERAL);
+    for (int rowIndex = 0; rowIndex < ScratchRow.MAX_STRINGS; rowIndex++) {
+      scratch.createCell(0, 0).setCellValue(new HSSFRichTextString("value " + rowIndex));
+      scratch.clear();
+    }
+
+    HSSFCell cell = scratch.createCell(0, 0);
+    cell.setCellValue(0.5);
+
+    assertThat(SerialDates.isDate1904(cell)).isTrue();
+    assertThat(CellConverters.TO_STRING.convert(cell)).isEqualTo("0.5");
+  }
+}
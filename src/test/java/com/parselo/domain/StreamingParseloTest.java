@@ -0,0 +1,93 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+import com.parselo.examples.Phone;
+import com.parselo.exception.InvalidConfigurationException;
+
+class StreamingParseloTest {
+
+  private static StreamingParselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    parselo = Parselo.streaming("annotation_examples.xls");
+  }
+
+  @Test
+  void getSheetNames_returnsSameSheetNamesAsWorkbook() {
+    assertThat(parselo.getSheetNames()).isEqualTo(Parselo.of("annotation_examples.xls").getSheetNames());
+  }
+
+  @Test
+  void parse_withAnnotatedCar_returnsListOfCars() {
+    List<Car> parsedCars = parselo.parse("Cars", Car.class);
+
+    assertThat(parsedCars).hasSize(3);
+
+    Car opel = parsedCars.get(0);
+    assertThat(opel.getProducer()).isEqualToIgnoringCase("Opel");
+    assertThat(opel.getModel()).isEqualTo("Astra");
+    assertThat(opel.getYear()).isEqualTo(2010);
+    assertThat(opel.getMilleage()).isEqualTo(10_000);
+  }
+
+  @Test
+  void parse_withAnnotatedPhone_returnsListOfPhonesWithNullValues() {
+    List<Phone> phones = parselo.parse("Phones", Phone.class);
+
+    assertThat(phones).hasSize(3);
+    assertThat(phones.get(0).getBoughtOn()).isNull();
+    assertThat(phones.get(1).getModel()).isNull();
+    assertThat(phones.get(1).getBoughtOn()).isEqualTo(LocalDate.of(2017, 8, 10));
+    assertThat(phones.get(2).getBrand()).isNull();
+    assertThat(phones.get(2).getBoughtOn()).isEqualTo(LocalDate.of(2019, 3, 4));
+  }
+
+  @Test
+  void parseCar_withEmptyExcelCells_returnsSameCarsAsWorkbook() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(10)
+        .rowEnd(11)
+        .columnStart("B")
+        .columnEnd("E")
+        .build();
+
+    List<DynamicCar> cars = parselo.parse("Cars", DynamicCar.class, spec);
+
+    assertThat(cars).usingFieldByFieldElementComparator()
+        .isEqualTo(Parselo.of("annotation_examples.xls").parse("Cars", DynamicCar.class, spec));
+    assertThat(cars.get(0).getMilleage()).isEqualTo(0);
+    assertThat(cars.get(1).getProducer()).isNull();
+  }
+
+  @Test
+  void parseCar_withMoreRowsThanAvailableInSheet_throwsException() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(2)
+        .rowEnd(30)
+        .columnStart("A")
+        .columnEnd("D")
+        .build();
+
+    assertThatThrownBy(() -> parselo.parse("Cars", DynamicCar.class, spec))
+        .isInstanceOf(InvalidConfigurationException.class)
+        .hasMessageContaining("rows must be within the bounds");
+  }
+
+  @Test
+  void parse_withUnknownSheet_throwsException() {
+    assertThatThrownBy(() -> parselo.parse("Trucks", Car.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("No sheet found for name: Trucks");
+  }
+}
@@ -0,0 +1,81 @@
+package com.parselo.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.parselo.examples.Car;
+import com.parselo.examples.DynamicCar;
+import com.parselo.examples.Phone;
+import com.parselo.exception.InvalidConfigurationException;
+
+class StreamingXlsxParseloTest {
+
+  private static StreamingParselo parselo;
+
+  @BeforeAll
+  static void setup() {
+    parselo = Parselo.streamingXlsx("annotation_examples.xlsx");
+  }
+
+  @Test
+  void getSheetNames_returnsSheetNames() {
+    assertThat(parselo.getSheetNames()).containsExactly("Cars", "Phones");
+  }
+
+  @Test
+  void parse_withAnnotatedCar_returnsSameCarsAsXls() {
+    List<Car> parsedCars = parselo.parse("Cars", Car.class);
+
+    assertThat(parsedCars).usingFieldByFieldElementComparator()
+        .isEqualTo(Parselo.of("annotation_examples.xls").parse("Cars", Car.class));
+  }
+
+  @Test
+  void parse_withAnnotatedPhone_returnsListOfPhonesWithNullValues() {
+    List<Phone> phones = parselo.parse("Phones", Phone.class);
+
+    assertThat(phones).hasSize(3);
+    assertThat(phones.get(0).getModel()).isEqualTo("iPhone 8");
+    assertThat(phones.get(0).getBoughtOn()).isNull();
+    assertThat(phones.get(1).getModel()).isNull();
+    assertThat(phones.get(1).getBoughtOn()).isEqualTo(LocalDate.of(2017, 8, 10));
+    assertThat(phones.get(2).getBrand()).isNull();
+    assertThat(phones.get(2).getBoughtOn()).isEqualTo(LocalDate.of(2019, 3, 4));
+  }
+
+  @Test
+  void parseCar_withEmptyExcelCells_returnsSameCarsAsXls() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(10)
+        .rowEnd(11)
+        .columnStart("B")
+        .columnEnd("E")
+        .build();
+
+    List<DynamicCar> cars = parselo.parse("Cars", DynamicCar.class, spec);
+
+    assertThat(cars).usingFieldByFieldElementComparator()
+        .isEqualTo(Parselo.of("annotation_examples.xls").parse("Cars", DynamicCar.class, spec));
+  }
+
+  @Test
+  void parseCar_withMoreRowsThanAvailableInSheet_throwsException() {
+    ParseloSpec spec = ParseloSpec.builder()
+        .rowStart(2)
+        .rowEnd(30)
+        .columnStart("A")
+        .columnEnd("D")
+        .build();
+
+    assertThatThrownBy(() -> parselo.parse("Cars", DynamicCar.class, spec))
+        .isInstanceOf(InvalidConfigurationException.class)
+        .hasMessage("Spec rows must be within the bounds of the sheet 'Cars'. Accepted bounds (one-based index): " +
+            "[1, 11]");
+  }
+}
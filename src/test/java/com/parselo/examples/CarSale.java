@@ -0,0 +1,51 @@
+package com.parselo.examples;
+
+import java.time.LocalDate;
+
+import com.parselo.annotations.ParseloPosition;
+import com.parselo.annotations.ParseloRow;
+
+/**
+ * The sale of a car, mixing string, date, boxed and primitive fields.
+ */
+@ParseloRow
+public class CarSale {
+
+  @ParseloPosition(position = 0)
+  String producer;
+
+  @ParseloPosition(position = 1)
+  LocalDate soldOn;
+
+  @ParseloPosition(position = 2)
+  Double price;
+
+  @ParseloPosition(position = 3)
+  int year;
+
+  @ParseloPosition(position = 4)
+  boolean electric;
+
+  public CarSale() {
+  }
+
+  public String getProducer() {
+    return producer;
+  }
+
+  public LocalDate getSoldOn() {
+    return soldOn;
+  }
+
+  public Double getPrice() {
+    return price;
+  }
+
+  public int getYear() {
+    return year;
+  }
+
+  public boolean isElectric() {
+    return electric;
+  }
+}
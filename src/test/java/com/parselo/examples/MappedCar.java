@@ -0,0 +1,43 @@
+package com.parselo.examples;
+
+import com.parselo.annotations.ParseloColumn;
+import com.parselo.annotations.ParseloRow;
+import com.parselo.domain.ConfigurationType;
+
+/**
+ * Same as {@link Car}, with package-private fields assigned directly by its generated mapper.
+ */
+@ParseloRow(type = ConfigurationType.STATIC, start = 3, end = 5)
+public class MappedCar {
+
+  @ParseloColumn(name = "B")
+  String producer;
+
+  @ParseloColumn(name = "C")
+  String model;
+
+  @ParseloColumn(name = "D")
+  Integer year;
+
+  @ParseloColumn(name = "E")
+  Double milleage;
+
+  public MappedCar() {
+  }
+
+  public String getProducer() {
+    return producer;
+  }
+
+  public String getModel() {
+    return model;
+  }
+
+  public int getYear() {
+    return year;
+  }
+
+  public Double getMilleage() {
+    return milleage;
+  }
+}
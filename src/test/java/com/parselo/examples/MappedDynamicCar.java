@@ -0,0 +1,42 @@
+package com.parselo.examples;
+
+import com.parselo.annotations.ParseloPosition;
+import com.parselo.annotations.ParseloRow;
+
+/**
+ * Same as {@link DynamicCar}, with package-private fields assigned directly by its generated mapper.
+ */
+@ParseloRow
+public class MappedDynamicCar {
+
+  @ParseloPosition(position = 0)
+  String producer;
+
+  @ParseloPosition(position = 1)
+  String type;
+
+  @ParseloPosition(position = 2)
+  Integer year;
+
+  @ParseloPosition(position = 3)
+  Integer milleage;
+
+  public MappedDynamicCar() {
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getProducer() {
+    return producer;
+  }
+
+  public Integer getYear() {
+    return year;
+  }
+
+  public Integer getMilleage() {
+    return milleage;
+  }
+}
@@ -0,0 +1,49 @@
+package com.parselo.examples;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.parselo.annotations.ParseloPosition;
+import com.parselo.annotations.ParseloRow;
+
+@ParseloRow
+public class PricedCar {
+
+  public enum Fuel {
+    PETROL,
+    DIESEL,
+    ELECTRIC
+  }
+
+  @ParseloPosition(position = 0)
+  private String producer;
+
+  @ParseloPosition(position = 1)
+  private Fuel fuel;
+
+  @ParseloPosition(position = 2)
+  private BigDecimal price;
+
+  @ParseloPosition(position = 3)
+  private Instant listed;
+
+
+  public PricedCar() {
+  }
+
+  public String getProducer() {
+    return producer;
+  }
+
+  public Fuel getFuel() {
+    return fuel;
+  }
+
+  public BigDecimal getPrice() {
+    return price;
+  }
+
+  public Instant getListed() {
+    return listed;
+  }
+}
@@ -0,0 +1,42 @@
+package com.parselo.examples;
+
+import com.parselo.annotations.ParseloPosition;
+import com.parselo.annotations.ParseloRow;
+
+/**
+ * A car with primitive fields, set to the primitive default of their converter when their cell is missing.
+ */
+@ParseloRow
+public class PrimitiveCar {
+
+  @ParseloPosition(position = 0)
+  String type;
+
+  @ParseloPosition(position = 1)
+  int year;
+
+  @ParseloPosition(position = 2)
+  long milleage;
+
+  @ParseloPosition(position = 3)
+  double price = -1;
+
+  public PrimitiveCar() {
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public int getYear() {
+    return year;
+  }
+
+  public long getMilleage() {
+    return milleage;
+  }
+
+  public double getPrice() {
+    return price;
+  }
+}
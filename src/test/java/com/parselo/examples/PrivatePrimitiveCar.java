@@ -0,0 +1,58 @@
+package com.parselo.examples;
+
+import com.parselo.annotations.ParseloPosition;
+import com.parselo.annotations.ParseloRow;
+
+/**
+ * Same as {@link PrimitiveCar}, with private fields assigned through their setters by its generated mapper.
+ */
+@ParseloRow
+public class PrivatePrimitiveCar {
+
+  @ParseloPosition(position = 0)
+  private String type;
+
+  @ParseloPosition(position = 1)
+  private int year;
+
+  @ParseloPosition(position = 2)
+  private long milleage;
+
+  @ParseloPosition(position = 3)
+  private double price = -1;
+
+  public PrivatePrimitiveCar() {
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public int getYear() {
+    return year;
+  }
+
+  public long getMilleage() {
+    return milleage;
+  }
+
+  public double getPrice() {
+    return price;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public void setYear(int year) {
+    this.year = year;
+  }
+
+  public void setMilleage(long milleage) {
+    this.milleage = milleage;
+  }
+
+  public void setPrice(double price) {
+    this.price = price;
+  }
+}